@@ -0,0 +1,49 @@
+package br.com.rsimplicio.api.benchmark;
+
+import br.com.rsimplicio.api.service.CacheSegundoNivel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * {@link CacheSegundoNivel} sobre uma {@link SessionFactory} sem regiões: as
+ * invalidações do serviço não fazem nada, como o repositório em memória não tem cache.
+ */
+final class CacheSegundoNivelMemoria {
+
+    private CacheSegundoNivelMemoria() {
+    }
+
+    static CacheSegundoNivel criar() {
+        var cache = vazio(Cache.class);
+        var estatisticas = vazio(Statistics.class);
+        var sessionFactory = (SessionFactory) Proxy.newProxyInstance(
+                SessionFactory.class.getClassLoader(),
+                new Class<?>[]{SessionFactory.class},
+                (proxy, metodo, argumentos) -> switch (metodo.getName()) {
+                    case "unwrap" -> proxy;
+                    case "getCache" -> cache;
+                    case "getStatistics" -> estatisticas;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == argumentos[0];
+                    case "toString" -> "CacheSegundoNivelMemoria";
+                    default -> throw new UnsupportedOperationException(metodo.getName());
+                });
+        return new CacheSegundoNivel(sessionFactory, new SimpleMeterRegistry());
+    }
+
+    /** Métodos {@code void} não fazem nada; os demais devolvem {@code null}. */
+    private static <T> T vazio(Class<T> tipo) {
+        return tipo.cast(Proxy.newProxyInstance(
+                tipo.getClassLoader(),
+                new Class<?>[]{tipo},
+                (proxy, metodo, argumentos) -> switch (metodo.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == argumentos[0];
+                    case "toString" -> tipo.getSimpleName();
+                    default -> null;
+                }));
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.rsimplicio.api.benchmark;
+
+import br.com.rsimplicio.api.model.Mensagem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Massa de dados e {@link ObjectMapper} com as mesmas configurações padrão da aplicação.
+ */
+final class DadosBenchmark {
+
+    private DadosBenchmark() {
+    }
+
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    static List<Mensagem> gerarMensagens(int quantidade) {
+        var mensagens = new ArrayList<Mensagem>(quantidade);
+        var dataCriacao = LocalDateTime.of(2023, 7, 1, 12, 0, 0, 123_450_000);
+        for (int i = 0; i < quantidade; i++) {
+            var data = dataCriacao.minusSeconds(i);
+            mensagens.add(Mensagem.builder()
+                    .id(UUID.randomUUID())
+                    .usuario("usuario" + (i % 100))
+                    .conteudo("conteúdo da mensagem " + i)
+                    .dataCriacao(data)
+                    .dataAlteracao(data)
+                    .gostei(i % 17)
+                    .persistida(true)
+                    .build());
+        }
+        return mensagens;
+    }
+}
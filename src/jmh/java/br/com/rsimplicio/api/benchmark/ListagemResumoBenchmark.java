@@ -0,0 +1,112 @@
+package br.com.rsimplicio.api.benchmark;
+
+import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.model.MensagemResumo;
+import br.com.rsimplicio.api.repository.MensagemRepository;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.jpa.HibernateHints;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Uma página de {@value #TAMANHO_PAGINA} mensagens de {@code GET /mensagens} lida pelo
+ * Hibernate em H2, em uma sessão e transação por operação como no serviço: entidades
+ * gerenciadas (snapshot por entidade e dirty checking no commit), entidades com a dica
+ * read-only e a projeção {@link MensagemResumo}. Comparar {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListagemResumoBenchmark {
+
+    private static final String URL = "jdbc:h2:mem:listagem-resumo;DB_CLOSE_DELAY=-1";
+    private static final String JPQL_LISTAR_ENTIDADES = "SELECT m FROM Mensagem m ORDER BY m.dataCriacao DESC";
+    private static final int TOTAL_MENSAGENS = 10_000;
+    private static final int TAMANHO_PAGINA = 100;
+    private static final int PRIMEIRA_LINHA = 10 * TAMANHO_PAGINA;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void preparar() throws SQLException {
+        Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        try (var conexao = DriverManager.getConnection(URL, "sa", "");
+             var comando = conexao.createStatement()) {
+            comando.execute("INSERT INTO mensagem (id, usuario, conteudo, data_criacao, data_alteracao) "
+                    + "SELECT RANDOM_UUID(), 'usuario-' || MOD(X, 1000), 'mensagem ' || X, "
+                    + "DATEADD('SECOND', X, TIMESTAMP '2024-01-15 00:00:00'), "
+                    + "DATEADD('SECOND', X, TIMESTAMP '2024-01-15 00:00:00') "
+                    + "FROM SYSTEM_RANGE(1, " + TOTAL_MENSAGENS + ")");
+        }
+        // mesmos nomes de coluna que o Spring Boot usa (dataCriacao -> data_criacao)
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Mensagem.class)
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, URL)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .buildSessionFactory();
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() throws SQLException {
+        sessionFactory.close();
+        try (var conexao = DriverManager.getConnection(URL, "sa", "");
+             var comando = conexao.createStatement()) {
+            comando.execute("DROP ALL OBJECTS");
+        }
+    }
+
+    @Benchmark
+    public List<Mensagem> entidades() {
+        return sessionFactory.fromTransaction(sessao -> sessao
+                .createQuery(JPQL_LISTAR_ENTIDADES, Mensagem.class)
+                .setFirstResult(PRIMEIRA_LINHA)
+                .setMaxResults(TAMANHO_PAGINA)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<Mensagem> entidadesSomenteLeitura() {
+        return sessionFactory.fromTransaction(sessao -> sessao
+                .createQuery(JPQL_LISTAR_ENTIDADES, Mensagem.class)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setFirstResult(PRIMEIRA_LINHA)
+                .setMaxResults(TAMANHO_PAGINA)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<MensagemResumo> resumos() {
+        return sessionFactory.fromTransaction(sessao -> sessao
+                .createQuery(MensagemRepository.JPQL_LISTAR_RESUMOS, MensagemResumo.class)
+                .setFirstResult(PRIMEIRA_LINHA)
+                .setMaxResults(TAMANHO_PAGINA)
+                .getResultList());
+    }
+}
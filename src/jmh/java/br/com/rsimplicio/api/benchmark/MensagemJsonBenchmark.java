@@ -0,0 +1,74 @@
+package br.com.rsimplicio.api.benchmark;
+
+import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.model.PaginaCompacta;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Serialização de {@link Mensagem} (datas com o padrão de {@code @JsonFormat})
+ * e de {@code Page<Mensagem>}, como nas respostas de {@code GET /mensagens}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MensagemJsonBenchmark {
+
+    @Param({"10", "100"})
+    int tamanhoPagina;
+
+    private ObjectWriter escritor;
+    private ObjectReader leitor;
+    private Mensagem mensagem;
+    private byte[] mensagemJson;
+    private Page<Mensagem> pagina;
+
+    @Setup
+    public void preparar() throws Exception {
+        var objectMapper = DadosBenchmark.objectMapper();
+        escritor = objectMapper.writer();
+        leitor = objectMapper.readerFor(Mensagem.class);
+        var mensagens = DadosBenchmark.gerarMensagens(tamanhoPagina);
+        mensagem = mensagens.get(0);
+        mensagemJson = escritor.writeValueAsBytes(mensagem);
+        pagina = new PageImpl<>(mensagens, PageRequest.of(0, tamanhoPagina), 10_000);
+    }
+
+    @Benchmark
+    public byte[] serializarMensagem() throws Exception {
+        return escritor.writeValueAsBytes(mensagem);
+    }
+
+    @Benchmark
+    public Mensagem desserializarMensagem() throws Exception {
+        return leitor.readValue(mensagemJson);
+    }
+
+    @Benchmark
+    public byte[] serializarPagina() throws Exception {
+        return escritor.writeValueAsBytes(pagina);
+    }
+
+    @Benchmark
+    public byte[] serializarPaginaCompacta() throws Exception {
+        return escritor.writeValueAsBytes(PaginaCompacta.de(pagina));
+    }
+}
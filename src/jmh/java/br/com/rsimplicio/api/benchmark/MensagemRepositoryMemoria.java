@@ -0,0 +1,84 @@
+package br.com.rsimplicio.api.benchmark;
+
+import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.model.MensagemResumo;
+import br.com.rsimplicio.api.repository.MensagemRepository;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+/**
+ * {@link MensagemRepository} em memória, para medir o serviço sem JPA nem banco.
+ * Implementa só os métodos usados por {@code MensagemServiceImpl}; a listagem
+ * percorre uma cópia ordenada da massa inicial.
+ */
+final class MensagemRepositoryMemoria {
+
+    private MensagemRepositoryMemoria() {
+    }
+
+    static MensagemRepository criar(List<Mensagem> massaInicial) {
+        Map<UUID, Mensagem> mensagens = new ConcurrentHashMap<>();
+        massaInicial.forEach(mensagem -> mensagens.put(mensagem.getId(), mensagem));
+        var ordenadas = massaInicial.stream()
+                .sorted(Comparator.comparing(Mensagem::getDataCriacao).reversed())
+                .toList();
+
+        return (MensagemRepository) Proxy.newProxyInstance(
+                MensagemRepository.class.getClassLoader(),
+                new Class<?>[]{MensagemRepository.class},
+                (proxy, metodo, argumentos) -> switch (metodo.getName()) {
+                    case "save" -> {
+                        var mensagem = (Mensagem) argumentos[0];
+                        mensagens.put(mensagem.getId(), mensagem);
+                        yield mensagem;
+                    }
+                    case "findById", "buscarNoPrimario" -> Optional.ofNullable(mensagens.get((UUID) argumentos[0]));
+                    case "excluirMensagem" -> mensagens.remove((UUID) argumentos[0]) == null ? 0 : 1;
+                    case "alterarConteudo" -> {
+                        var mensagem = mensagens.get((UUID) argumentos[0]);
+                        if (mensagem == null) {
+                            yield 0;
+                        }
+                        mensagem.setConteudo((String) argumentos[1]);
+                        mensagem.setDataAlteracao((LocalDateTime) argumentos[2]);
+                        yield 1;
+                    }
+                    case "count" -> (long) mensagens.size();
+                    case "listarMensagens", "listarMensagensEmCache" -> {
+                        var pageable = (Pageable) argumentos[0];
+                        yield new PageImpl<>(resumos(pagina(ordenadas, pageable)), pageable, ordenadas.size());
+                    }
+                    case "listarMensagensSemContagem" -> {
+                        var pageable = (Pageable) argumentos[0];
+                        var inicio = (int) pageable.getOffset();
+                        yield new SliceImpl<>(resumos(pagina(ordenadas, pageable)), pageable,
+                                inicio + pageable.getPageSize() < ordenadas.size());
+                    }
+                    case "listarMensagensIniciais" ->
+                            ordenadas.subList(0, Math.min((int) argumentos[0], ordenadas.size()));
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == argumentos[0];
+                    case "toString" -> "MensagemRepositoryMemoria";
+                    default -> throw new UnsupportedOperationException(metodo.getName());
+                });
+    }
+
+    private static List<Mensagem> pagina(List<Mensagem> ordenadas, Pageable pageable) {
+        var inicio = (int) Math.min(pageable.getOffset(), ordenadas.size());
+        var fim = Math.min(inicio + pageable.getPageSize(), ordenadas.size());
+        return ordenadas.subList(inicio, fim);
+    }
+
+    private static List<MensagemResumo> resumos(List<Mensagem> mensagens) {
+        return mensagens.stream().map(MensagemResumo::de).toList();
+    }
+}
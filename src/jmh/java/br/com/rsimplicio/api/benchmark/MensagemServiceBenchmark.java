@@ -0,0 +1,94 @@
+package br.com.rsimplicio.api.benchmark;
+
+import br.com.rsimplicio.api.id.GeradorUuidV7;
+import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.model.MensagemResumo;
+import br.com.rsimplicio.api.model.PaginaSlice;
+import br.com.rsimplicio.api.service.AcumuladorGostei;
+import br.com.rsimplicio.api.service.ContadorMensagens;
+import br.com.rsimplicio.api.service.MensagemServiceImpl;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@link MensagemServiceImpl} sobre um repositório em memória: mede o custo
+ * próprio do serviço (geração de id, paginação, contador), sem JPA nem banco.
+ * O serviço é criado diretamente, então o cache do Spring não participa.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MensagemServiceBenchmark {
+
+    private MensagemServiceImpl mensagemService;
+    private UUID idExistente;
+
+    @Setup
+    public void preparar() {
+        var mensagens = DadosBenchmark.gerarMensagens(1_000);
+        var repositorio = MensagemRepositoryMemoria.criar(mensagens);
+        idExistente = mensagens.get(500).getId();
+        mensagemService = new MensagemServiceImpl(
+                repositorio,
+                new GeradorUuidV7(),
+                new ContadorMensagens(repositorio, Duration.ofMinutes(1)),
+                new AcumuladorGostei(new JdbcTemplate(), null, new ConcurrentMapCacheManager(), null),
+                null,
+                null,
+                evento -> { },
+                Optional.empty(),
+                CacheSegundoNivelMemoria.criar());
+    }
+
+    @Benchmark
+    public Mensagem buscarMensagem() {
+        return mensagemService.buscarMensagem(idExistente);
+    }
+
+    @Benchmark
+    public Page<MensagemResumo> listarMensagens() {
+        return mensagemService.listarMensagens(PageRequest.of(0, 10));
+    }
+
+    @Benchmark
+    public PaginaSlice<MensagemResumo> listarMensagensSemContagem() {
+        return mensagemService.listarMensagensSemContagem(PageRequest.of(0, 10), true);
+    }
+
+    @Benchmark
+    public void registrarGostei() {
+        mensagemService.registrarGostei(idExistente);
+    }
+
+    /**
+     * Registro seguido de exclusão, para que o repositório em memória não cresça
+     * durante a medição.
+     */
+    @Benchmark
+    public boolean registrarEExcluirMensagem() {
+        var mensagem = mensagemService.registrarMensagem(Mensagem.builder()
+                .usuario("usuario")
+                .conteudo("conteúdo da mensagem")
+                .build());
+        return mensagemService.excluirMensagem(mensagem.getId());
+    }
+}
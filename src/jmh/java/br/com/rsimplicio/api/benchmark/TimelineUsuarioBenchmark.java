@@ -0,0 +1,136 @@
+package br.com.rsimplicio.api.benchmark;
+
+import br.com.rsimplicio.api.repository.MensagemRepository;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Consultas da linha do tempo por usuário ({@code GET /usuarios/{usuario}/mensagens})
+ * em um H2 com as migrações do Flyway. O histórico do usuário medido é fixo
+ * ({@value #HISTORICO_USUARIO} mensagens) e a tabela cresce: com o índice
+ * (usuario, data_criacao, id) a latência deve ficar estável; sem ele, cresce com a tabela.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimelineUsuarioBenchmark {
+
+    private static final String USUARIO = "usuario-medido";
+    private static final int HISTORICO_USUARIO = 200;
+    private static final int TAMANHO_PAGINA = 20;
+
+    @Param({"10000", "100000", "1000000"})
+    public int totalMensagens;
+
+    @Param({"true", "false"})
+    public boolean comIndice;
+
+    private Connection conexao;
+    private PreparedStatement iniciais;
+    private PreparedStatement apos;
+
+    @Setup(Level.Trial)
+    public void preparar() throws SQLException {
+        var url = "jdbc:h2:mem:timeline-" + totalMensagens + "-" + comIndice + ";DB_CLOSE_DELAY=-1";
+        Flyway.configure()
+                .dataSource(url, "sa", "")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        conexao = DriverManager.getConnection(url, "sa", "");
+        try (var comando = conexao.createStatement()) {
+            if (!comIndice) {
+                comando.execute("DROP INDEX idx_mensagem_usuario_data_criacao_id");
+            }
+            // 1.000 outros autores, uma mensagem por segundo
+            comando.execute("INSERT INTO mensagem (id, usuario, conteudo, data_criacao) "
+                    + "SELECT RANDOM_UUID(), 'usuario-' || MOD(X, 1000), 'mensagem ' || X, "
+                    + "DATEADD('SECOND', X, TIMESTAMP '2024-01-15 00:00:00') "
+                    + "FROM SYSTEM_RANGE(1, " + (totalMensagens - HISTORICO_USUARIO) + ")");
+            // histórico do usuário medido espalhado pelo mesmo período
+            comando.execute("INSERT INTO mensagem (id, usuario, conteudo, data_criacao) "
+                    + "SELECT RANDOM_UUID(), '" + USUARIO + "', 'mensagem do usuario ' || X, "
+                    + "DATEADD('SECOND', X * " + totalMensagens / HISTORICO_USUARIO + ", TIMESTAMP '2024-01-15 00:00:00') "
+                    + "FROM SYSTEM_RANGE(1, " + HISTORICO_USUARIO + ")");
+            comando.execute("ANALYZE");
+        }
+        iniciais = conexao.prepareStatement(jdbc(MensagemRepository.SQL_LISTAR_DO_USUARIO_INICIAIS));
+        apos = conexao.prepareStatement(jdbc(MensagemRepository.SQL_LISTAR_DO_USUARIO_APOS));
+        posicionarCursorNoMeioDoHistorico();
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() throws SQLException {
+        try (var comando = conexao.createStatement()) {
+            comando.execute("DROP ALL OBJECTS");
+        }
+        conexao.close();
+    }
+
+    @Benchmark
+    public int primeiraPagina() throws SQLException {
+        iniciais.setString(1, USUARIO);
+        iniciais.setInt(2, TAMANHO_PAGINA + 1);
+        return lerIds(iniciais);
+    }
+
+    @Benchmark
+    public int paginaAposCursor() throws SQLException {
+        return lerIds(apos);
+    }
+
+    private void posicionarCursorNoMeioDoHistorico() throws SQLException {
+        iniciais.setString(1, USUARIO);
+        iniciais.setInt(2, HISTORICO_USUARIO / 2);
+        Timestamp dataCriacao = null;
+        UUID id = null;
+        try (var linhas = iniciais.executeQuery()) {
+            while (linhas.next()) {
+                dataCriacao = linhas.getTimestamp("data_criacao");
+                id = linhas.getObject("id", UUID.class);
+            }
+        }
+        apos.setString(1, USUARIO);
+        apos.setTimestamp(2, dataCriacao);
+        apos.setObject(3, id);
+        apos.setInt(4, TAMANHO_PAGINA + 1);
+    }
+
+    private static int lerIds(PreparedStatement consulta) throws SQLException {
+        var lidas = 0;
+        try (var linhas = consulta.executeQuery()) {
+            while (linhas.next()) {
+                linhas.getObject(1);
+                lidas++;
+            }
+        }
+        return lidas;
+    }
+
+    /** Troca os parâmetros nomeados da consulta nativa por {@code ?}, na mesma ordem. */
+    private static String jdbc(String sql) {
+        return sql.replaceAll(":\\w+", "?");
+    }
+}
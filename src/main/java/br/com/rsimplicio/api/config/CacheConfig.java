@@ -0,0 +1,17 @@
+package br.com.rsimplicio.api.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tamanho, TTL e estatísticas do cache são definidos em
+ * {@code spring.cache.caffeine.spec}; acertos, falhas e remoções ficam em
+ * {@code /actuator/metrics/cache.gets} e {@code cache.evictions}.
+ * O cache de segundo nível do Hibernate é outro, configurado em {@code application.conf}
+ * (ver {@code CacheSegundoNivel}).
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String CACHE_MENSAGENS = "mensagens";
+}
@@ -0,0 +1,82 @@
+package br.com.rsimplicio.api.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Perfil {@code slow-db}, usado apenas em testes de carga: cada comando SQL
+ * espera {@code mensagens.simulacao.latencia-bd} segurando a conexão, como um
+ * banco remoto lento, para comparar threads de plataforma e virtuais.
+ */
+@Configuration
+@Profile("slow-db")
+public class LatenciaBancoConfig {
+
+    @Bean
+    public static BeanPostProcessor latenciaBanco(
+            @Value("${mensagens.simulacao.latencia-bd:50ms}") Duration latencia) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String nome) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof DataSourceComLatencia)) {
+                    return new DataSourceComLatencia(dataSource, latencia);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static class DataSourceComLatencia extends DelegatingDataSource {
+        private final Duration latencia;
+
+        DataSourceComLatencia(DataSource dataSource, Duration latencia) {
+            super(dataSource);
+            this.latencia = latencia;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return comLatencia(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return comLatencia(super.getConnection(username, password));
+        }
+
+        private Connection comLatencia(Connection conexao) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, metodo, argumentos) -> {
+                        var nome = metodo.getName();
+                        if (nome.startsWith("prepare") || nome.equals("createStatement")) {
+                            aguardar();
+                        }
+                        try {
+                            return metodo.invoke(conexao, argumentos);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+
+        private void aguardar() {
+            try {
+                Thread.sleep(latencia.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.rsimplicio.api.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Leituras cujo resultado vai para um cache (o {@code mensagens} do serviço ou o de
+ * segundo nível do Hibernate) usam o primário mesmo com a réplica habilitada: um dado
+ * atrasado da réplica ficaria no cache até a próxima escrita ou a expiração.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LeituraPrimaria {
+}
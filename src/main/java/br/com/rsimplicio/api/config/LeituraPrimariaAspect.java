@@ -0,0 +1,54 @@
+package br.com.rsimplicio.api.config;
+
+import java.util.function.Supplier;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Marca a thread durante um método com {@link LeituraPrimaria} para que o
+ * {@link RoteamentoDataSource} envie as transações somente leitura dele ao primário.
+ * Quando só um trecho do método alimenta um cache, {@link #noPrimario} faz o mesmo para o trecho.
+ */
+@Aspect
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "mensagens.replica.habilitada", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LeituraPrimariaAspect {
+
+    @Around("@annotation(br.com.rsimplicio.api.config.LeituraPrimaria)")
+    public Object lerDoPrimario(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (RoteamentoDataSource.LEITURA_PRIMARIA.get() != null) {
+            return joinPoint.proceed();
+        }
+        RoteamentoDataSource.LEITURA_PRIMARIA.set(Boolean.TRUE);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RoteamentoDataSource.LEITURA_PRIMARIA.remove();
+        }
+    }
+
+    /**
+     * Executa a leitura no primário mesmo dentro de uma transação somente leitura, desde
+     * que seja o primeiro comando dela: a conexão só é escolhida nesse momento. Sem a
+     * réplica habilitada, apenas executa a leitura.
+     */
+    public static <T> T noPrimario(Supplier<T> leitura) {
+        if (RoteamentoDataSource.LEITURA_PRIMARIA.get() != null) {
+            return leitura.get();
+        }
+        RoteamentoDataSource.LEITURA_PRIMARIA.set(Boolean.TRUE);
+        try {
+            return leitura.get();
+        } finally {
+            RoteamentoDataSource.LEITURA_PRIMARIA.remove();
+        }
+    }
+}
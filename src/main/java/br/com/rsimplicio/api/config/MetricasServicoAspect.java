@@ -0,0 +1,56 @@
+package br.com.rsimplicio.api.config;
+
+import br.com.rsimplicio.api.exception.CursorInvalidoException;
+import br.com.rsimplicio.api.exception.FilaRegistroCheiaException;
+import br.com.rsimplicio.api.exception.LoteInvalidoException;
+import br.com.rsimplicio.api.exception.MensagemNotFoundException;
+import br.com.rsimplicio.api.exception.VersaoDivergenteException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Timer {@value #METRICA} para cada método de {@code MensagemService}, com as
+ * tags {@code metodo} e {@code outcome} (success, not-found, rejected, error).
+ * Os endpoints já são medidos pelo Spring em {@code http.server.requests}.
+ */
+@Aspect
+@Component
+public class MetricasServicoAspect {
+
+    public static final String METRICA = "mensagens.servico";
+
+    private final MeterRegistry meterRegistry;
+
+    public MetricasServicoAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* br.com.rsimplicio.api.service.MensagemService.*(..))")
+    public Object medir(ProceedingJoinPoint joinPoint) throws Throwable {
+        var amostra = Timer.start(meterRegistry);
+        var outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (MensagemNotFoundException e) {
+            outcome = "not-found";
+            throw e;
+        } catch (CursorInvalidoException | LoteInvalidoException | VersaoDivergenteException
+                 | FilaRegistroCheiaException e) {
+            outcome = "rejected";
+            throw e;
+        } catch (Throwable e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            amostra.stop(Timer.builder(METRICA)
+                    .description("Duração dos métodos de MensagemService")
+                    .tag("metodo", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+}
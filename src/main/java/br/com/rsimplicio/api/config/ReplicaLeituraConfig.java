@@ -0,0 +1,55 @@
+package br.com.rsimplicio.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Réplica de leitura ({@code mensagens.replica.habilitada}): dois pools Hikari,
+ * o primário de {@code spring.datasource} e a réplica de
+ * {@code mensagens.replica.datasource}, atrás de um {@link RoteamentoDataSource}.
+ * Os métodos de leitura do serviço são {@code @Transactional(readOnly = true)}.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "mensagens.replica.habilitada", havingValue = "true")
+public class ReplicaLeituraConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primario(DataSourceProperties dataSourceProperties) {
+        var primario = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primario.setPoolName("primario");
+        return primario;
+    }
+
+    @Bean
+    @ConfigurationProperties("mensagens.replica.datasource")
+    public HikariDataSource replica() {
+        var replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primario") DataSource primario,
+                                 @Qualifier("replica") DataSource replica,
+                                 @Value("${mensagens.replica.ler-primario-apos-escrita:0s}") Duration leituraPrimariaAposEscrita,
+                                 @Value("${mensagens.replica.espera-apos-falha:5s}") Duration esperaAposFalha) {
+        return new LazyConnectionDataSourceProxy(
+                new RoteamentoDataSource(primario, replica, leituraPrimariaAposEscrita, esperaAposFalha));
+    }
+}
@@ -0,0 +1,147 @@
+package br.com.rsimplicio.api.config;
+
+import jakarta.servlet.http.Cookie;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Envia as transações {@code readOnly} para a réplica e todo o resto
+ * (escritas e acesso sem transação) para o primário. Precisa ficar atrás de um
+ * {@code LazyConnectionDataSourceProxy}: a conexão só é obtida no primeiro
+ * comando, quando a flag de somente leitura da transação já está definida.
+ *
+ * <p>Se a réplica não entregar conexão, a leitura vai para o primário e a
+ * réplica fica de fora por {@code esperaAposFalha}. Métodos com
+ * {@link LeituraPrimaria} sempre leem do primário.
+ *
+ * <p>Com {@code leituraPrimariaAposEscrita} maior que zero, uma escrita durante uma
+ * requisição grava o cookie {@value #COOKIE_ULTIMA_ESCRITA} com o instante da escrita;
+ * as leituras do mesmo cliente (mesma requisição ou requisições com o cookie) dentro
+ * da janela continuam no primário, independentemente da instância ou da thread.
+ */
+@Slf4j
+class RoteamentoDataSource extends AbstractRoutingDataSource {
+
+    enum Destino {
+        PRIMARIO,
+        REPLICA
+    }
+
+    static final String COOKIE_ULTIMA_ESCRITA = "mensagens-escrita";
+    private static final String ATRIBUTO_ESCRITA = RoteamentoDataSource.class.getName() + ".escrita";
+    /** Definida por {@link LeituraPrimariaAspect} durante um método com {@link LeituraPrimaria}. */
+    static final ThreadLocal<Boolean> LEITURA_PRIMARIA = new ThreadLocal<>();
+
+    private final DataSource primario;
+    private final DataSource replica;
+    private final long leituraPrimariaAposEscritaMillis;
+    private final long esperaAposFalhaNanos;
+    private volatile boolean replicaIndisponivel;
+    private volatile long replicaIndisponivelDesde;
+
+    RoteamentoDataSource(DataSource primario,
+                         DataSource replica,
+                         Duration leituraPrimariaAposEscrita,
+                         Duration esperaAposFalha) {
+        this.primario = primario;
+        this.replica = replica;
+        this.leituraPrimariaAposEscritaMillis = leituraPrimariaAposEscrita.toMillis();
+        this.esperaAposFalhaNanos = esperaAposFalha.toNanos();
+        setTargetDataSources(Map.of(Destino.PRIMARIO, primario, Destino.REPLICA, replica));
+        setDefaultTargetDataSource(primario);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return destino();
+    }
+
+    Destino destino() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Destino.PRIMARIO;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registrarEscrita();
+            return Destino.PRIMARIO;
+        }
+        if (LEITURA_PRIMARIA.get() != null || escritaRecente()) {
+            return Destino.PRIMARIO;
+        }
+        return Destino.REPLICA;
+    }
+
+    private void registrarEscrita() {
+        if (leituraPrimariaAposEscritaMillis <= 0
+                || !(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes requisicao)) {
+            return;
+        }
+        var request = requisicao.getRequest();
+        if (request.getAttribute(ATRIBUTO_ESCRITA) != null) {
+            return;
+        }
+        request.setAttribute(ATRIBUTO_ESCRITA, Boolean.TRUE);
+        var response = requisicao.getResponse();
+        if (response != null) {
+            var cookie = new Cookie(COOKIE_ULTIMA_ESCRITA, Long.toString(System.currentTimeMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, (leituraPrimariaAposEscritaMillis + 999) / 1000));
+            response.addCookie(cookie);
+        }
+    }
+
+    private boolean escritaRecente() {
+        if (leituraPrimariaAposEscritaMillis <= 0
+                || !(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes requisicao)) {
+            return false;
+        }
+        var request = requisicao.getRequest();
+        if (request.getAttribute(ATRIBUTO_ESCRITA) != null) {
+            return true;
+        }
+        if (request.getCookies() == null) {
+            return false;
+        }
+        for (var cookie : request.getCookies()) {
+            if (COOKIE_ULTIMA_ESCRITA.equals(cookie.getName())) {
+                try {
+                    return System.currentTimeMillis() - Long.parseLong(cookie.getValue()) < leituraPrimariaAposEscritaMillis;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (destino() == Destino.REPLICA && replicaDisponivel()) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                replicaIndisponivelDesde = System.nanoTime();
+                replicaIndisponivel = true;
+                log.warn("Réplica indisponível, leituras no primário por {} ms",
+                        esperaAposFalhaNanos / 1_000_000, e);
+            }
+        }
+        return primario.getConnection();
+    }
+
+    private boolean replicaDisponivel() {
+        if (replicaIndisponivel && System.nanoTime() - replicaIndisponivelDesde >= esperaAposFalhaNanos) {
+            replicaIndisponivel = false;
+        }
+        return !replicaIndisponivel;
+    }
+}
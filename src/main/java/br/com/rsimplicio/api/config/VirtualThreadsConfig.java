@@ -0,0 +1,46 @@
+package br.com.rsimplicio.api.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+/**
+ * Perfil {@code virtual-threads} (Java 21+): cada requisição do Tomcat e cada
+ * tarefa assíncrona roda em uma thread virtual. Compilar com
+ * {@code mvn -P virtual-threads}; o executor é obtido por reflexão para que o
+ * build padrão continue em Java 17.
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadsConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService executorThreadsVirtuais() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("O perfil virtual-threads exige Java 21 ou superior", e);
+        }
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> threadsVirtuaisTomcat(ExecutorService executorThreadsVirtuais) {
+        return protocolHandler -> protocolHandler.setExecutor(executorThreadsVirtuais);
+    }
+
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            "taskExecutor"
+    })
+    public AsyncTaskExecutor threadsVirtuaisTarefas(ExecutorService executorThreadsVirtuais) {
+        return new TaskExecutorAdapter(executorThreadsVirtuais);
+    }
+}
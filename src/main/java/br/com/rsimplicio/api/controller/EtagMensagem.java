@@ -0,0 +1,97 @@
+package br.com.rsimplicio.api.controller;
+
+import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.model.MensagemResumo;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ETags fortes derivados de {@code Mensagem.versao}, calculados sem serializar
+ * a resposta: o Spring responde 304 a um If-None-Match igual sem escrever o corpo.
+ */
+final class EtagMensagem {
+
+    /**
+     * Nenhuma mensagem tem versão negativa: um If-Match que não seja um ETag
+     * forte de mensagem nunca casa e resulta em 412.
+     */
+    static final long VERSAO_INEXISTENTE = -1L;
+
+    private static final long MULTIPLICADOR = 0x9E3779B97F4A7C15L;
+
+    private EtagMensagem() {
+    }
+
+    static String de(Mensagem mensagem) {
+        return "\"" + mensagem.getVersao() + "\"";
+    }
+
+    /**
+     * ETag de uma página: muda quando entra, sai ou é alterada qualquer mensagem
+     * dela, ou quando mudam os números da página ({@code complementos}).
+     */
+    static String de(List<Mensagem> mensagens, long... complementos) {
+        long hash = iniciar(mensagens.size(), complementos);
+        for (var mensagem : mensagens) {
+            hash = misturar(hash, mensagem.getId(), mensagem.getVersao());
+        }
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Mesmo ETag de {@link #de(List, long...)} para uma página de projeções.
+     */
+    static String deResumos(List<MensagemResumo> resumos, long... complementos) {
+        long hash = iniciar(resumos.size(), complementos);
+        for (var resumo : resumos) {
+            hash = misturar(hash, resumo.id(), resumo.versao());
+        }
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Versão exigida pelo If-Match, ou null quando ausente ou {@code *}.
+     */
+    static Long versaoEsperada(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        var valor = ifMatch.trim();
+        if (valor.equals("*")) {
+            return null;
+        }
+        if (valor.length() < 3 || !valor.startsWith("\"") || !valor.endsWith("\"")) {
+            return VERSAO_INEXISTENTE;
+        }
+        try {
+            return Long.parseLong(valor.substring(1, valor.length() - 1));
+        } catch (NumberFormatException e) {
+            return VERSAO_INEXISTENTE;
+        }
+    }
+
+    private static long iniciar(int tamanho, long... complementos) {
+        long hash = tamanho;
+        for (var complemento : complementos) {
+            hash = misturar(hash, complemento);
+        }
+        return hash;
+    }
+
+    /**
+     * {@code id} nulo (mensagem ainda sem id) entra como zero, em vez de falhar a resposta.
+     */
+    private static long misturar(long hash, UUID id, long versao) {
+        if (id != null) {
+            hash = misturar(hash, id.getMostSignificantBits());
+            hash = misturar(hash, id.getLeastSignificantBits());
+        } else {
+            hash = misturar(hash, 0L);
+        }
+        return misturar(hash, versao);
+    }
+
+    private static long misturar(long hash, long valor) {
+        return Long.rotateLeft((hash ^ valor) * MULTIPLICADOR, 31);
+    }
+}
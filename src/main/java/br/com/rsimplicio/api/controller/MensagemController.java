@@ -1,23 +1,37 @@
 package br.com.rsimplicio.api.controller;
 
+import br.com.rsimplicio.api.exception.CursorInvalidoException;
+import br.com.rsimplicio.api.exception.FilaRegistroCheiaException;
+import br.com.rsimplicio.api.exception.MensagemInvalidaException;
+import br.com.rsimplicio.api.exception.LoteInvalidoException;
 import br.com.rsimplicio.api.exception.MensagemNotFoundException;
+import br.com.rsimplicio.api.exception.VersaoDivergenteException;
 import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.model.MensagemResumo;
+import br.com.rsimplicio.api.model.PaginaCompacta;
+import br.com.rsimplicio.api.model.PaginaSlice;
 import br.com.rsimplicio.api.service.MensagemService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/mensagens")
 @RequiredArgsConstructor
 public class MensagemController {
+    /** Maior {@code size} aceito nas listagens por cursor; valores acima são reduzidos a ele. */
+    static final int TAMANHO_MAXIMO_PAGINA = 100;
 
     private final MensagemService mensagemService;
 
@@ -25,11 +39,41 @@ public class MensagemController {
         consumes = MediaType.APPLICATION_JSON_VALUE,
         produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<Mensagem> registrarMensagem(@RequestBody Mensagem mensagem) {
-        var mensagemRegistrada = mensagemService.registrarMensagem(mensagem);
-        return ResponseEntity
-                .status(HttpStatus.CREATED)
-                .body(mensagemRegistrada);
+    public ResponseEntity<?> registrarMensagem(@RequestBody Mensagem mensagem) {
+        try {
+            var mensagemRegistrada = mensagemService.registrarMensagem(mensagem);
+            // 202: aceita pelo registro assíncrono, ainda não gravada
+            return ResponseEntity
+                    .status(mensagemService.registroAssincrono() ? HttpStatus.ACCEPTED : HttpStatus.CREATED)
+                    .body(mensagemRegistrada);
+        } catch (FilaRegistroCheiaException e) {
+            return ResponseEntity
+                    .status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(e.getMessage());
+        } catch (MensagemInvalidaException e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(e.getMessage());
+        }
+    }
+
+    @PostMapping(
+        value = "/batch",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<?> registrarMensagens(@RequestBody List<Mensagem> mensagens) {
+        try {
+            var resultado = mensagemService.registrarMensagens(mensagens);
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .body(resultado);
+        } catch (LoteInvalidoException e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(e.getMessage());
+        }
     }
 
     @GetMapping(value = "/{id}")
@@ -39,6 +83,7 @@ public class MensagemController {
             var mensagemEncontrada = mensagemService.buscarMensagem(uuid);
             return ResponseEntity
                     .status(HttpStatus.OK)
+                    .eTag(EtagMensagem.de(mensagemEncontrada))
                     .body(mensagemEncontrada);
         }catch (MensagemNotFoundException e) {
             return ResponseEntity
@@ -50,44 +95,123 @@ public class MensagemController {
     @GetMapping(
             value = "",
             produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Page<Mensagem>> listarMensagens(
+    public ResponseEntity<?> listarMensagens(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean compacto) {
+        Pageable pageable = PageRequest.of(page, size);
+        Page<MensagemResumo> mensagens = mensagemService.listarMensagens(pageable);
+        var etag = EtagMensagem.deResumos(mensagens.getContent(),
+                page, size, mensagens.getTotalElements(), compacto ? 1 : 0);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .eTag(etag)
+                .body(compacto ? PaginaCompacta.de(mensagens) : mensagens);
+    }
+
+    @GetMapping(
+            value = "/slice",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PaginaSlice<MensagemResumo>> listarMensagensSemContagem(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean total) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Mensagem> mensagens = mensagemService.listarMensagens(pageable);
+        PaginaSlice<MensagemResumo> mensagens = mensagemService.listarMensagensSemContagem(pageable, total);
         return new ResponseEntity<>(mensagens, HttpStatus.OK);
     }
 
+    @GetMapping(value = "/cursor")
+    public ResponseEntity<?> listarMensagensPorCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size) {
+        var tamanho = Math.min(size, TAMANHO_MAXIMO_PAGINA);
+        try {
+            var mensagens = mensagemService.listarMensagens(after, tamanho);
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .eTag(EtagMensagem.de(mensagens.content(), tamanho))
+                    .body(mensagens);
+        } catch (CursorInvalidoException | IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(e.getMessage());
+        }
+    }
+
+    @GetMapping(
+            value = "/search",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> buscarMensagens(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            var mensagens = mensagemService.buscarMensagens(q, after, Math.min(size, TAMANHO_MAXIMO_PAGINA));
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .body(mensagens);
+        } catch (CursorInvalidoException | IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(e.getMessage());
+        }
+    }
+
     @PutMapping(
         value = "/{id}",
         consumes = MediaType.APPLICATION_JSON_VALUE,
         produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<?> alterarMensagem(@PathVariable String id, @RequestBody Mensagem mensagem) {
+    public ResponseEntity<?> alterarMensagem(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody Mensagem mensagem) {
         var uuid = UUID.fromString(id);
         try{
-            var mensagemAtualizada = mensagemService.alterarMensagem(uuid, mensagem);
+            var mensagemAtualizada = mensagemService.alterarMensagem(
+                    uuid, mensagem, EtagMensagem.versaoEsperada(ifMatch));
             return ResponseEntity
                     .status(HttpStatus.ACCEPTED)
+                    .eTag(EtagMensagem.de(mensagemAtualizada))
                     .body(mensagemAtualizada);
         }catch (MensagemNotFoundException e) {
             return ResponseEntity
                     .status(HttpStatus.BAD_REQUEST)
                     .body(e.getMessage());
+        }catch (VersaoDivergenteException e) {
+            return ResponseEntity
+                    .status(HttpStatus.PRECONDITION_FAILED)
+                    .body(e.getMessage());
         }
     }
 
+    @PostMapping(value = "/{id}/gostei")
+    public ResponseEntity<Void> registrarGostei(@PathVariable String id) {
+        var uuid = UUID.fromString(id);
+        mensagemService.registrarGostei(uuid);
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .build();
+    }
+
     @DeleteMapping(value = "/{id}")
-    public ResponseEntity<?> excluirMensagem(@PathVariable String id) {
+    public ResponseEntity<?> excluirMensagem(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         var uuid = UUID.fromString(id);
         try{
-            mensagemService.excluirMensagem(uuid);
+            mensagemService.excluirMensagem(uuid, EtagMensagem.versaoEsperada(ifMatch));
             return ResponseEntity.status(HttpStatus.OK)
                     .body("mensagem excluida com sucesso");
         }catch (MensagemNotFoundException e){
             return ResponseEntity
                     .status(HttpStatus.BAD_REQUEST)
                     .body(e.getMessage());
+        }catch (VersaoDivergenteException e) {
+            return ResponseEntity
+                    .status(HttpStatus.PRECONDITION_FAILED)
+                    .body(e.getMessage());
         }
     }
 }
@@ -0,0 +1,133 @@
+package br.com.rsimplicio.api.controller;
+
+import br.com.rsimplicio.api.exception.CursorInvalidoException;
+import br.com.rsimplicio.api.exception.MensagemNotFoundException;
+import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.model.PaginaCompacta;
+import br.com.rsimplicio.api.model.PaginaSlice;
+import br.com.rsimplicio.api.service.MensagemServiceReativo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Versão WebFlux de {@link MensagemController}. Ativa com o perfil {@code reactive},
+ * que também troca o JPA pelo R2DBC.
+ *
+ * <p>Implementa apenas {@code POST /mensagens}, {@code GET}, {@code PUT} e {@code DELETE}
+ * em {@code /mensagens/{id}}, {@code POST /mensagens/{id}/gostei} e as listagens
+ * {@code GET /mensagens}, {@code /slice} e {@code /cursor}, com as mesmas respostas da
+ * versão servlet. Ficam só na versão servlet {@code /batch}, {@code /export},
+ * {@code /import}, {@code /search}, {@code /stream}, {@code /usuarios/{usuario}/mensagens}
+ * e o tratamento de {@code ETag}, {@code If-None-Match} e {@code If-Match}.
+ */
+@RestController
+@RequestMapping("/mensagens")
+@Profile("reactive")
+@RequiredArgsConstructor
+public class MensagemControllerReativo {
+
+    private final MensagemServiceReativo mensagemService;
+
+    @PostMapping(
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public Mono<ResponseEntity<Mensagem>> registrarMensagem(@RequestBody Mensagem mensagem) {
+        return mensagemService.registrarMensagem(mensagem)
+                .map(mensagemRegistrada -> ResponseEntity
+                        .status(HttpStatus.CREATED)
+                        .body(mensagemRegistrada));
+    }
+
+    @GetMapping(value = "/{id}")
+    public Mono<ResponseEntity<?>> buscarMensagem(@PathVariable String id) {
+        var uuid = UUID.fromString(id);
+        return mensagemService.buscarMensagem(uuid)
+                .<ResponseEntity<?>>map(mensagemEncontrada -> ResponseEntity
+                        .status(HttpStatus.OK)
+                        .body(mensagemEncontrada))
+                .onErrorResume(MensagemNotFoundException.class, MensagemControllerReativo::requisicaoInvalida);
+    }
+
+    @GetMapping(
+            value = "",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<?>> listarMensagens(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean compacto) {
+        return mensagemService.listarMensagens(PageRequest.of(page, size))
+                .<ResponseEntity<?>>map(mensagens -> compacto
+                        ? new ResponseEntity<>(PaginaCompacta.de(mensagens), HttpStatus.OK)
+                        : new ResponseEntity<>(mensagens, HttpStatus.OK));
+    }
+
+    @GetMapping(
+            value = "/slice",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PaginaSlice<Mensagem>>> listarMensagensSemContagem(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean total) {
+        return mensagemService.listarMensagensSemContagem(PageRequest.of(page, size), total)
+                .map(mensagens -> new ResponseEntity<>(mensagens, HttpStatus.OK));
+    }
+
+    @GetMapping(value = "/cursor")
+    public Mono<ResponseEntity<?>> listarMensagensPorCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size) {
+        return mensagemService.listarMensagens(after, size)
+                .<ResponseEntity<?>>map(mensagens -> ResponseEntity
+                        .status(HttpStatus.OK)
+                        .body(mensagens))
+                .onErrorResume(CursorInvalidoException.class, MensagemControllerReativo::requisicaoInvalida);
+    }
+
+    @PutMapping(
+        value = "/{id}",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public Mono<ResponseEntity<?>> alterarMensagem(@PathVariable String id, @RequestBody Mensagem mensagem) {
+        var uuid = UUID.fromString(id);
+        return mensagemService.alterarMensagem(uuid, mensagem)
+                .<ResponseEntity<?>>map(mensagemAtualizada -> ResponseEntity
+                        .status(HttpStatus.ACCEPTED)
+                        .body(mensagemAtualizada))
+                .onErrorResume(MensagemNotFoundException.class, MensagemControllerReativo::requisicaoInvalida);
+    }
+
+    @PostMapping(value = "/{id}/gostei")
+    public Mono<ResponseEntity<Void>> registrarGostei(@PathVariable String id) {
+        var uuid = UUID.fromString(id);
+        return mensagemService.registrarGostei(uuid)
+                .thenReturn(ResponseEntity
+                        .status(HttpStatus.ACCEPTED)
+                        .build());
+    }
+
+    @DeleteMapping(value = "/{id}")
+    public Mono<ResponseEntity<?>> excluirMensagem(@PathVariable String id) {
+        var uuid = UUID.fromString(id);
+        return mensagemService.excluirMensagem(uuid)
+                .<ResponseEntity<?>>map(excluida -> ResponseEntity
+                        .status(HttpStatus.OK)
+                        .body("mensagem excluida com sucesso"))
+                .onErrorResume(MensagemNotFoundException.class, MensagemControllerReativo::requisicaoInvalida);
+    }
+
+    private static Mono<ResponseEntity<?>> requisicaoInvalida(RuntimeException e) {
+        return Mono.just(ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(e.getMessage()));
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.rsimplicio.api.controller;
+
+import br.com.rsimplicio.api.service.FeedMensagens;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/mensagens")
+@RequiredArgsConstructor
+public class MensagemFeedController {
+
+    public static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final FeedMensagens feedMensagens;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter acompanharMensagens(
+            @RequestHeader(value = LAST_EVENT_ID, required = false) String ultimoEventoId) {
+        return feedMensagens.assinar(ultimoEventoId);
+    }
+}
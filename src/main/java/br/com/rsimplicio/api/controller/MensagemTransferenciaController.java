@@ -0,0 +1,65 @@
+package br.com.rsimplicio.api.controller;
+
+import br.com.rsimplicio.api.model.ResumoImportacao;
+import br.com.rsimplicio.api.service.ExportadorMensagens;
+import br.com.rsimplicio.api.service.ImportadorMensagens;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/mensagens")
+@RequiredArgsConstructor
+public class MensagemTransferenciaController {
+
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final ExportadorMensagens exportadorMensagens;
+    private final ImportadorMensagens importadorMensagens;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping(value = "/export", produces = APPLICATION_NDJSON_VALUE)
+    public void exportarMensagens(HttpServletResponse response) throws IOException {
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        var escritor = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            gerador.setRootValueSeparator(null);
+            exportadorMensagens.exportar(mensagem -> {
+                try {
+                    escritor.writeValue(gerador, mensagem);
+                    gerador.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    @PostMapping(
+        value = "/import",
+        consumes = APPLICATION_NDJSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<ResumoImportacao> importarMensagens(HttpServletRequest request) throws IOException {
+        var resumo = importadorMensagens.importar(request.getInputStream());
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(resumo);
+    }
+}
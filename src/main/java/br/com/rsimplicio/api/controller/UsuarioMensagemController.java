@@ -0,0 +1,44 @@
+package br.com.rsimplicio.api.controller;
+
+import br.com.rsimplicio.api.exception.CursorInvalidoException;
+import br.com.rsimplicio.api.service.MensagemService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/usuarios")
+@RequiredArgsConstructor
+public class UsuarioMensagemController {
+
+    private final MensagemService mensagemService;
+
+    @GetMapping(
+            value = "/{usuario}/mensagens",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> listarMensagensDoUsuario(
+            @PathVariable String usuario,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size) {
+        var tamanho = Math.min(size, MensagemController.TAMANHO_MAXIMO_PAGINA);
+        try {
+            var mensagens = mensagemService.listarMensagensDoUsuario(usuario, after, tamanho);
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .eTag(EtagMensagem.de(mensagens.content(), tamanho))
+                    .body(mensagens);
+        } catch (CursorInvalidoException | IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.rsimplicio.api.exception;
+
+public class CursorInvalidoException extends RuntimeException {
+    public CursorInvalidoException(String mensagem) {
+        super(mensagem);
+    }
+}
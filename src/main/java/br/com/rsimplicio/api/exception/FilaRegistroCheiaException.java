@@ -0,0 +1,7 @@
+package br.com.rsimplicio.api.exception;
+
+public class FilaRegistroCheiaException extends RuntimeException {
+    public FilaRegistroCheiaException(String mensagem) {
+        super(mensagem);
+    }
+}
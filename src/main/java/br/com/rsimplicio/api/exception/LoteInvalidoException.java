@@ -0,0 +1,7 @@
+package br.com.rsimplicio.api.exception;
+
+public class LoteInvalidoException extends RuntimeException {
+    public LoteInvalidoException(String mensagem) {
+        super(mensagem);
+    }
+}
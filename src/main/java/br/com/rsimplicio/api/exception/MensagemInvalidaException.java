@@ -0,0 +1,7 @@
+package br.com.rsimplicio.api.exception;
+
+public class MensagemInvalidaException extends RuntimeException {
+    public MensagemInvalidaException(String mensagem) {
+        super(mensagem);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.rsimplicio.api.exception;
+
+public class VersaoDivergenteException extends RuntimeException {
+    public VersaoDivergenteException(String mensagem) {
+        super(mensagem);
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.rsimplicio.api.id;
+
+import java.util.UUID;
+
+/**
+ * Estratégia de geração de ids para novas mensagens, escolhida por
+ * {@code mensagens.id.estrategia} ({@code v7} por padrão, ou {@code aleatorio}).
+ */
+public interface GeradorId {
+    UUID gerar();
+}
@@ -0,0 +1,14 @@
+package br.com.rsimplicio.api.id;
+
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "mensagens.id.estrategia", havingValue = "aleatorio")
+public class GeradorUuidAleatorio implements GeradorId {
+    @Override
+    public UUID gerar() {
+        return UUID.randomUUID();
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.rsimplicio.api.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * UUID versão 7 (RFC 9562): 48 bits de timestamp em milissegundos, seguidos de
+ * um contador de 12 bits e 62 bits aleatórios. Ids gerados pela mesma instância
+ * são estritamente crescentes, mesmo dentro do mesmo milissegundo ou se o
+ * relógio voltar; novos registros entram sempre no fim do índice da chave primária.
+ */
+@Component
+@ConditionalOnProperty(name = "mensagens.id.estrategia", havingValue = "v7", matchIfMissing = true)
+public class GeradorUuidV7 implements GeradorId {
+    private static final int BITS_CONTADOR = 12;
+    private static final long VERSAO = 0x7000L;
+    private static final long VARIANTE = 0x8000000000000000L;
+    private static final long MASCARA_ALEATORIO = 0x3FFFFFFFFFFFFFFFL;
+
+    private final LongSupplier relogio;
+    private final AtomicLong ultimo = new AtomicLong();
+
+    public GeradorUuidV7() {
+        this(System::currentTimeMillis);
+    }
+
+    GeradorUuidV7(LongSupplier relogio) {
+        this.relogio = relogio;
+    }
+
+    @Override
+    public UUID gerar() {
+        var agora = relogio.getAsLong() << BITS_CONTADOR;
+        long atual;
+        long proximo;
+        do {
+            atual = ultimo.get();
+            proximo = Math.max(agora, atual + 1);
+        } while (!ultimo.compareAndSet(atual, proximo));
+
+        var milissegundos = proximo >>> BITS_CONTADOR;
+        var contador = proximo & ((1L << BITS_CONTADOR) - 1);
+        var maisSignificativos = (milissegundos << 16) | VERSAO | contador;
+        var menosSignificativos = (ThreadLocalRandom.current().nextLong() & MASCARA_ALEATORIO) | VARIANTE;
+        return new UUID(maisSignificativos, menosSignificativos);
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.rsimplicio.api.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Escreve {@link LocalDateTime} no formato {@value #PADRAO} dígito a dígito,
+ * sem passar pelo {@link DateTimeFormatter} (que aloca contexto, buffer e String
+ * a cada data). Anos fora de 0000–9999 usam o formatter. A leitura continua com
+ * {@code @JsonFormat(pattern = PADRAO)}.
+ */
+public class DataHoraSerializer extends StdSerializer<LocalDateTime> {
+
+    public static final String PADRAO = "yyyy-MM-dd HH:mm:ss.SSSSS";
+
+    private static final DateTimeFormatter FORMATO = DateTimeFormatter.ofPattern(PADRAO);
+    private static final int TAMANHO = PADRAO.length();
+    private static final int NANOS_POR_DIGITO = 10_000;
+
+    public DataHoraSerializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public void serialize(LocalDateTime valor, JsonGenerator gerador, SerializerProvider provider) throws IOException {
+        var ano = valor.getYear();
+        if (ano < 0 || ano > 9999) {
+            gerador.writeString(FORMATO.format(valor));
+            return;
+        }
+        var texto = new char[TAMANHO];
+        escrever(texto, 0, ano, 4);
+        texto[4] = '-';
+        escrever(texto, 5, valor.getMonthValue(), 2);
+        texto[7] = '-';
+        escrever(texto, 8, valor.getDayOfMonth(), 2);
+        texto[10] = ' ';
+        escrever(texto, 11, valor.getHour(), 2);
+        texto[13] = ':';
+        escrever(texto, 14, valor.getMinute(), 2);
+        texto[16] = ':';
+        escrever(texto, 17, valor.getSecond(), 2);
+        texto[19] = '.';
+        escrever(texto, 20, valor.getNano() / NANOS_POR_DIGITO, 5);
+        gerador.writeString(texto, 0, TAMANHO);
+    }
+
+    private static void escrever(char[] texto, int inicio, int numero, int digitos) {
+        for (int i = inicio + digitos - 1; i >= inicio; i--) {
+            texto[i] = (char) ('0' + numero % 10);
+            numero /= 10;
+        }
+    }
+}
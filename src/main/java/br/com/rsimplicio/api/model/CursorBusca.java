@@ -0,0 +1,34 @@
+package br.com.rsimplicio.api.model;
+
+import br.com.rsimplicio.api.exception.CursorInvalidoException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição opaca na busca textual: relevância e id do último resultado
+ * entregue (a ordem é relevância decrescente, com {@code id} como desempate).
+ */
+public record CursorBusca(double relevancia, UUID id) {
+
+    private static final String SEPARADOR = "|";
+
+    public String codificar() {
+        var valor = Double.toString(relevancia) + SEPARADOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CursorBusca decodificar(String cursor) {
+        try {
+            var valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var separador = valor.indexOf(SEPARADOR);
+            return new CursorBusca(
+                    Double.parseDouble(valor.substring(0, separador)),
+                    UUID.fromString(valor.substring(separador + 1)));
+        } catch (RuntimeException e) {
+            throw new CursorInvalidoException("Cursor inválido");
+        }
+    }
+}
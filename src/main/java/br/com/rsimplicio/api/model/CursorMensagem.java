@@ -0,0 +1,39 @@
+package br.com.rsimplicio.api.model;
+
+import br.com.rsimplicio.api.exception.CursorInvalidoException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição opaca na listagem por cursor: a última mensagem entregue,
+ * identificada por {@code dataCriacao} com {@code id} como desempate.
+ */
+public record CursorMensagem(LocalDateTime dataCriacao, UUID id) {
+
+    private static final String SEPARADOR = "|";
+
+    public static CursorMensagem de(Mensagem mensagem) {
+        return new CursorMensagem(mensagem.getDataCriacao(), mensagem.getId());
+    }
+
+    public String codificar() {
+        var valor = dataCriacao + SEPARADOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CursorMensagem decodificar(String cursor) {
+        try {
+            var valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var separador = valor.indexOf(SEPARADOR);
+            return new CursorMensagem(
+                    LocalDateTime.parse(valor.substring(0, separador)),
+                    UUID.fromString(valor.substring(separador + 1)));
+        } catch (RuntimeException e) {
+            throw new CursorInvalidoException("Cursor inválido");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.rsimplicio.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ItemLote(int indice, Status status, UUID id, String erro) {
+
+    public enum Status {
+        REGISTRADA,
+        REJEITADA
+    }
+
+    public static ItemLote registrada(int indice, UUID id) {
+        return new ItemLote(indice, Status.REGISTRADA, id, null);
+    }
+
+    public static ItemLote rejeitada(int indice, String erro) {
+        return new ItemLote(indice, Status.REJEITADA, null, erro);
+    }
+}
@@ -1,9 +1,17 @@
 package br.com.rsimplicio.api.model;
 
+import br.com.rsimplicio.api.json.DataHoraSerializer;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotEmpty;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -11,18 +19,32 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import lombok.extern.jackson.Jacksonized;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.GenericGenerator;
+import org.springframework.data.domain.Persistable;
 
+/**
+ * Fica no cache de segundo nível do Hibernate (região {@value #REGIAO_CACHE}, ver
+ * {@code application.conf}); escritas feitas fora do Hibernate precisam invalidá-la
+ * por {@code CacheSegundoNivel}.
+ */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Mensagem.REGIAO_CACHE)
 @Data
 @Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Jacksonized
-public class Mensagem {
+public class Mensagem implements Persistable<UUID> {
+    /** Sem pontos: o Caffeine lê a configuração da região por caminho em {@code application.conf}. */
+    public static final String REGIAO_CACHE = "mensagem";
 
     @Id
     @GenericGenerator(name = "uuid")
@@ -35,20 +57,53 @@ public class Mensagem {
     private String conteudo;
 
     @CreationTimestamp
-    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss.SSSSS")
+    @JsonFormat(pattern = DataHoraSerializer.PADRAO)
+    @JsonSerialize(using = DataHoraSerializer.class)
     private LocalDateTime dataCriacao;
 
     @CreationTimestamp
-    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss.SSSSS")
+    @JsonFormat(pattern = DataHoraSerializer.PADRAO)
+    @JsonSerialize(using = DataHoraSerializer.class)
     private LocalDateTime dataAlteracao;
 
     @Default
     private int gostei = 0;
 
+    /**
+     * Incrementada a cada alteração (inclusive pelos UPDATEs diretos do
+     * repositório e dos "gostei"); vai para o cliente apenas como ETag.
+     */
+    @Version
+    @JsonIgnore
+    private long versao;
+
+    @Transient
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean persistida;
+
     @PrePersist
     public void prePersist() {
         var timestamp = LocalDateTime.now();
         dataCriacao = timestamp;
         dataAlteracao = timestamp;
     }
-}
\ No newline at end of file
+
+    @PostLoad
+    @PostPersist
+    public void marcarPersistida() {
+        persistida = true;
+    }
+
+    /**
+     * O id é atribuído pelo serviço antes do save; sem isto o Spring Data
+     * trataria toda mensagem nova como existente e faria merge (SELECT + INSERT),
+     * o que também impede o batching de INSERTs.
+     */
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return !persistida;
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.rsimplicio.api.model;
+
+import java.util.UUID;
+
+/**
+ * Publicado pelo serviço a cada registro, alteração ou exclusão de mensagem;
+ * os ouvintes ({@code @TransactionalEventListener}) o recebem depois do commit.
+ * {@code mensagem} é nula na exclusão.
+ */
+public record MensagemEvento(Tipo tipo, UUID id, Mensagem mensagem) {
+
+    public enum Tipo {
+        REGISTRADA,
+        ALTERADA,
+        EXCLUIDA
+    }
+
+    public static MensagemEvento registrada(Mensagem mensagem) {
+        return new MensagemEvento(Tipo.REGISTRADA, mensagem.getId(), mensagem);
+    }
+
+    public static MensagemEvento alterada(Mensagem mensagem) {
+        return new MensagemEvento(Tipo.ALTERADA, mensagem.getId(), mensagem);
+    }
+
+    public static MensagemEvento excluida(UUID id) {
+        return new MensagemEvento(Tipo.EXCLUIDA, id, null);
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.rsimplicio.api.model;
+
+import br.com.rsimplicio.api.json.DataHoraSerializer;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Mensagem somente leitura das listagens, montada pela consulta (JPQL {@code SELECT new})
+ * em vez de uma entidade gerenciada: o Hibernate não guarda cópia do estado carregado
+ * para o dirty checking. Serializa com os mesmos campos de {@link Mensagem}.
+ */
+public record MensagemResumo(
+        UUID id,
+        String usuario,
+        String conteudo,
+        @JsonFormat(pattern = DataHoraSerializer.PADRAO)
+        @JsonSerialize(using = DataHoraSerializer.class)
+        LocalDateTime dataCriacao,
+        @JsonFormat(pattern = DataHoraSerializer.PADRAO)
+        @JsonSerialize(using = DataHoraSerializer.class)
+        LocalDateTime dataAlteracao,
+        int gostei,
+        @JsonIgnore
+        long versao) {
+
+    public static MensagemResumo de(Mensagem mensagem) {
+        return new MensagemResumo(
+                mensagem.getId(),
+                mensagem.getUsuario(),
+                mensagem.getConteudo(),
+                mensagem.getDataCriacao(),
+                mensagem.getDataAlteracao(),
+                mensagem.getGostei(),
+                mensagem.getVersao());
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.rsimplicio.api.model;
+
+import java.util.List;
+import org.springframework.data.domain.Page;
+
+/**
+ * Envelope enxuto de {@code GET /mensagens?compacto=true}: o conteúdo e os
+ * números da página, sem os objetos {@code pageable} e {@code sort} do {@code PageImpl}.
+ */
+public record PaginaCompacta<T>(
+        List<T> content,
+        int number,
+        int size,
+        long totalElements,
+        int totalPages) {
+
+    public static <T> PaginaCompacta<T> de(Page<T> pagina) {
+        return new PaginaCompacta<>(
+                pagina.getContent(),
+                pagina.getNumber(),
+                pagina.getSize(),
+                pagina.getTotalElements(),
+                pagina.getTotalPages());
+    }
+}
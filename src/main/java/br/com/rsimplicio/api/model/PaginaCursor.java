@@ -0,0 +1,6 @@
+package br.com.rsimplicio.api.model;
+
+import java.util.List;
+
+public record PaginaCursor<T>(List<T> content, String nextCursor) {
+}
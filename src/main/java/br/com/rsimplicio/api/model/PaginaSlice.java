@@ -0,0 +1,16 @@
+package br.com.rsimplicio.api.model;
+
+import java.util.List;
+
+/**
+ * Página sem contagem: {@code approximateTotal} só é preenchido quando
+ * solicitado e vem de um contador mantido pela aplicação, não de COUNT(*).
+ */
+public record PaginaSlice<T>(
+        List<T> content,
+        int number,
+        int size,
+        boolean first,
+        boolean last,
+        Long approximateTotal) {
+}
@@ -0,0 +1,13 @@
+package br.com.rsimplicio.api.model;
+
+import java.util.List;
+
+public record ResultadoLote(int registradas, int rejeitadas, List<ItemLote> itens) {
+
+    public static ResultadoLote de(List<ItemLote> itens) {
+        var registradas = (int) itens.stream()
+                .filter(item -> item.status() == ItemLote.Status.REGISTRADA)
+                .count();
+        return new ResultadoLote(registradas, itens.size() - registradas, itens);
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.rsimplicio.api.model;
+
+import java.util.List;
+
+/**
+ * {@code linhasRejeitadas} lista no máximo as primeiras 1000 linhas
+ * rejeitadas; {@code rejeitadas} traz sempre o total.
+ */
+public record ResumoImportacao(long linhas, long importadas, long rejeitadas, List<Long> linhasRejeitadas) {
+}
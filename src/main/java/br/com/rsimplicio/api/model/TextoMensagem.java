@@ -0,0 +1,9 @@
+package br.com.rsimplicio.api.model;
+
+import java.util.UUID;
+
+/**
+ * Campos indexados pela busca textual, lidos sem carregar a entidade inteira.
+ */
+public record TextoMensagem(UUID id, String usuario, String conteudo) {
+}
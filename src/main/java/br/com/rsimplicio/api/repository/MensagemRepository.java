@@ -1,13 +1,168 @@
 package br.com.rsimplicio.api.repository;
 
 import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.model.MensagemResumo;
+import br.com.rsimplicio.api.model.TextoMensagem;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface MensagemRepository extends JpaRepository<Mensagem, UUID> {
-    @Query("SELECT m FROM Mensagem m ORDER BY m.dataCriacao DESC")
-    Page<Mensagem> listarMensagens(Pageable pageable);
+    String SQL_LISTAR_DO_USUARIO_INICIAIS = "SELECT * FROM mensagem WHERE usuario = :usuario "
+            + "ORDER BY data_criacao DESC, id DESC LIMIT :limite";
+    String SQL_LISTAR_DO_USUARIO_APOS = "SELECT * FROM mensagem WHERE usuario = :usuario "
+            + "AND (data_criacao, id) < (:dataCriacao, :id) "
+            + "ORDER BY data_criacao DESC, id DESC LIMIT :limite";
+    String JPQL_LISTAR_RESUMOS = "SELECT new br.com.rsimplicio.api.model.MensagemResumo("
+            + "m.id, m.usuario, m.conteudo, m.dataCriacao, m.dataAlteracao, m.gostei, m.versao) "
+            + "FROM Mensagem m ORDER BY m.dataCriacao DESC";
+    /** Região do cache de consultas do Hibernate com as primeiras páginas da listagem. */
+    String REGIAO_LISTAGEM = "mensagem-listagem";
+    /**
+     * Espaço de consulta das escritas nativas: não é tabela de nenhuma entidade, então o
+     * Hibernate não esvazia regiões do cache de segundo nível depois delas.
+     */
+    String ESPACO_ESCRITA = "mensagem-escrita";
+
+    /**
+     * Listagens paginadas em {@link MensagemResumo}: nenhuma entidade entra no
+     * contexto de persistência, então não há snapshot para o dirty checking.
+     */
+    @Query(value = JPQL_LISTAR_RESUMOS, countQuery = "SELECT COUNT(m) FROM Mensagem m")
+    Page<MensagemResumo> listarMensagens(Pageable pageable);
+
+    /**
+     * Entidades lidas pelas listagens por cursor, pela busca e pela exportação não entram no
+     * cache de segundo nível ({@code storeMode} BYPASS): com a réplica de leitura habilitada elas
+     * podem vir atrasadas, e o cache só deve receber o que foi lido do primário.
+     */
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS"))
+    @Override
+    List<Mensagem> findAllById(Iterable<UUID> ids);
+
+    /**
+     * Como {@link #listarMensagens}, com a página e a contagem no cache de consultas
+     * ({@value #REGIAO_LISTAGEM}): repetições não vão ao banco até que uma escrita
+     * na tabela mensagem as invalide.
+     */
+    /**
+     * Lê a mensagem logo depois de uma escrita: transação de escrita, então vai ao primário
+     * mesmo com a réplica habilitada, e sem consultar nem alimentar o cache de segundo nível.
+     */
+    @Transactional
+    @QueryHints({
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"),
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS")
+    })
+    @Query("SELECT m FROM Mensagem m WHERE m.id = :id")
+    Optional<Mensagem> buscarNoPrimario(UUID id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = REGIAO_LISTAGEM)
+    })
+    @Query(value = JPQL_LISTAR_RESUMOS, countQuery = "SELECT COUNT(m) FROM Mensagem m")
+    Page<MensagemResumo> listarMensagensEmCache(Pageable pageable);
+
+    @Query(JPQL_LISTAR_RESUMOS)
+    Slice<MensagemResumo> listarMensagensSemContagem(Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS")
+    })
+    @Query(value = "SELECT * FROM mensagem ORDER BY data_criacao DESC, id DESC LIMIT :limite",
+            nativeQuery = true)
+    List<Mensagem> listarMensagensIniciais(int limite);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS")
+    })
+    @Query(value = "SELECT * FROM mensagem WHERE (data_criacao, id) < (:dataCriacao, :id) "
+            + "ORDER BY data_criacao DESC, id DESC LIMIT :limite",
+            nativeQuery = true)
+    List<Mensagem> listarMensagensApos(LocalDateTime dataCriacao, UUID id, int limite);
+
+    /**
+     * Linha do tempo de um usuário pelo índice (usuario, data_criacao DESC, id DESC):
+     * o custo depende do histórico do usuário, não do tamanho da tabela.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS")
+    })
+    @Query(value = SQL_LISTAR_DO_USUARIO_INICIAIS, nativeQuery = true)
+    List<Mensagem> listarMensagensDoUsuarioIniciais(String usuario, int limite);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS")
+    })
+    @Query(value = SQL_LISTAR_DO_USUARIO_APOS, nativeQuery = true)
+    List<Mensagem> listarMensagensDoUsuarioApos(String usuario, LocalDateTime dataCriacao, UUID id, int limite);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS")
+    })
+    @Query("SELECT m FROM Mensagem m")
+    Stream<Mensagem> exportarMensagens();
+
+    @Query("SELECT new br.com.rsimplicio.api.model.TextoMensagem(m.id, m.usuario, m.conteudo) FROM Mensagem m")
+    List<TextoMensagem> listarTextos();
+
+    /**
+     * Altera o conteúdo com um único UPDATE; o retorno é o número de linhas afetadas (0 quando a
+     * mensagem não existe). Em SQL nativo com o espaço {@value #ESPACO_ESCRITA}: um UPDATE em
+     * JPQL esvaziaria a região inteira da entidade no cache de segundo nível, então quem chama
+     * invalida só a mensagem alterada ({@code CacheSegundoNivel#invalidarMensagem}).
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = ESPACO_ESCRITA))
+    @Query(value = "UPDATE mensagem SET conteudo = :conteudo, data_alteracao = :dataAlteracao, "
+            + "versao = versao + 1 WHERE id = :id", nativeQuery = true)
+    int alterarConteudo(UUID id, String conteudo, LocalDateTime dataAlteracao);
+
+    /**
+     * Como {@link #alterarConteudo}, mas só altera se a mensagem ainda estiver
+     * na versão informada (If-Match); 0 também quando a versão divergir.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = ESPACO_ESCRITA))
+    @Query(value = "UPDATE mensagem SET conteudo = :conteudo, data_alteracao = :dataAlteracao, "
+            + "versao = versao + 1 WHERE id = :id AND versao = :versao", nativeQuery = true)
+    int alterarConteudoNaVersao(UUID id, String conteudo, LocalDateTime dataAlteracao, long versao);
+
+    /**
+     * Exclui com um único DELETE, sem carregar a entidade antes como o {@code deleteById};
+     * o retorno é o número de linhas afetadas. O cache fica como em {@link #alterarConteudo}.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = ESPACO_ESCRITA))
+    @Query(value = "DELETE FROM mensagem WHERE id = :id", nativeQuery = true)
+    int excluirMensagem(UUID id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = ESPACO_ESCRITA))
+    @Query(value = "DELETE FROM mensagem WHERE id = :id AND versao = :versao", nativeQuery = true)
+    int excluirMensagemNaVersao(UUID id, long versao);
 }
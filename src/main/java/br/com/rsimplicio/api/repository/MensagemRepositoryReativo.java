@@ -0,0 +1,115 @@
+package br.com.rsimplicio.api.repository;
+
+import br.com.rsimplicio.api.model.Mensagem;
+import io.r2dbc.spi.Row;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Acesso à tabela {@code mensagem} pelo R2DBC, com SQL explícito para que a
+ * entidade JPA não precise de um segundo conjunto de anotações de mapeamento.
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class MensagemRepositoryReativo {
+
+    private static final String COLUNAS =
+            "SELECT id, usuario, conteudo, data_criacao, data_alteracao, gostei, versao FROM mensagem ";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Mensagem> buscarMensagem(UUID id) {
+        return databaseClient.sql(COLUNAS + "WHERE id = :id")
+                .bind("id", id)
+                .map((linha, metadados) -> mapear(linha))
+                .one();
+    }
+
+    public Flux<Mensagem> listarMensagens(int limite, long deslocamento) {
+        return databaseClient.sql(COLUNAS + "ORDER BY data_criacao DESC LIMIT :limite OFFSET :deslocamento")
+                .bind("limite", limite)
+                .bind("deslocamento", deslocamento)
+                .map((linha, metadados) -> mapear(linha))
+                .all();
+    }
+
+    public Flux<Mensagem> listarMensagensIniciais(int limite) {
+        return databaseClient.sql(COLUNAS + "ORDER BY data_criacao DESC, id DESC LIMIT :limite")
+                .bind("limite", limite)
+                .map((linha, metadados) -> mapear(linha))
+                .all();
+    }
+
+    public Flux<Mensagem> listarMensagensApos(LocalDateTime dataCriacao, UUID id, int limite) {
+        return databaseClient.sql(COLUNAS + "WHERE (data_criacao, id) < (:dataCriacao, :id) "
+                        + "ORDER BY data_criacao DESC, id DESC LIMIT :limite")
+                .bind("dataCriacao", dataCriacao)
+                .bind("id", id)
+                .bind("limite", limite)
+                .map((linha, metadados) -> mapear(linha))
+                .all();
+    }
+
+    public Mono<Long> contarMensagens() {
+        return databaseClient.sql("SELECT COUNT(*) AS total FROM mensagem")
+                .map((linha, metadados) -> linha.get("total", Long.class))
+                .one();
+    }
+
+    public Mono<Long> registrarMensagem(Mensagem mensagem) {
+        return databaseClient.sql("INSERT INTO mensagem (id, usuario, conteudo, data_criacao, data_alteracao, gostei) "
+                        + "VALUES (:id, :usuario, :conteudo, :dataCriacao, :dataAlteracao, :gostei)")
+                .bind("id", mensagem.getId())
+                .bind("usuario", mensagem.getUsuario())
+                .bind("conteudo", mensagem.getConteudo())
+                .bind("dataCriacao", mensagem.getDataCriacao())
+                .bind("dataAlteracao", mensagem.getDataAlteracao())
+                .bind("gostei", mensagem.getGostei())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> alterarConteudo(UUID id, String conteudo, LocalDateTime dataAlteracao) {
+        return databaseClient.sql("UPDATE mensagem SET conteudo = :conteudo, data_alteracao = :dataAlteracao, "
+                        + "versao = versao + 1 WHERE id = :id")
+                .bind("conteudo", conteudo)
+                .bind("dataAlteracao", dataAlteracao)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> incrementarGostei(UUID id) {
+        return databaseClient.sql("UPDATE mensagem SET gostei = gostei + 1, versao = versao + 1 WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> excluirMensagem(UUID id) {
+        return databaseClient.sql("DELETE FROM mensagem WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static Mensagem mapear(Row linha) {
+        return Mensagem.builder()
+                .id(linha.get("id", UUID.class))
+                .usuario(linha.get("usuario", String.class))
+                .conteudo(linha.get("conteudo", String.class))
+                .dataCriacao(linha.get("data_criacao", LocalDateTime.class))
+                .dataAlteracao(linha.get("data_alteracao", LocalDateTime.class))
+                .gostei(linha.get("gostei", Integer.class))
+                .versao(linha.get("versao", Long.class))
+                .persistida(true)
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package br.com.rsimplicio.api.service;
+
+import br.com.rsimplicio.api.config.CacheConfig;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Acumula os "gostei" em memória e os grava em lote com
+ * {@code UPDATE ... SET gostei = gostei + ?}, sem ler a linha antes. Cada descarga
+ * é uma única transação: se falhar, nada foi gravado e tudo volta para a fila.
+ *
+ * <p>Contadores zerados saem do mapa, mas ainda são somados na descarga
+ * seguinte: um incremento que obteve o contador antes da remoção não se perde.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class AcumuladorGostei {
+    static final String SQL_INCREMENTAR = "UPDATE mensagem SET gostei = gostei + ?, versao = versao + 1 WHERE id = ?";
+    private static final int TAMANHO_LOTE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final CacheSegundoNivel cacheSegundoNivel;
+    private final ConcurrentHashMap<UUID, LongAdder> pendentes = new ConcurrentHashMap<>();
+    private final Queue<Map.Entry<UUID, LongAdder>> removidos = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock descarga = new ReentrantLock();
+
+    public AcumuladorGostei(JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            CacheManager cacheManager,
+                            CacheSegundoNivel cacheSegundoNivel) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheManager = cacheManager;
+        this.cacheSegundoNivel = cacheSegundoNivel;
+    }
+
+    public void registrar(UUID id) {
+        var contador = pendentes.get(id);
+        if (contador == null) {
+            contador = pendentes.computeIfAbsent(id, chave -> new LongAdder());
+        }
+        contador.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${mensagens.gostei.intervalo-descarga:1000}")
+    public void descarregar() {
+        descarregarPendentes();
+    }
+
+    /**
+     * Descarrega até não restar incremento; para na primeira falha, que já os devolveu à fila.
+     */
+    @PreDestroy
+    public void encerrar() {
+        while (possuiPendentes() && descarregarPendentes()) {
+            // incrementos registrados durante a descarga anterior
+        }
+    }
+
+    /**
+     * @return false se a gravação falhou
+     */
+    private boolean descarregarPendentes() {
+        descarga.lock();
+        try {
+            var incrementos = coletarIncrementos();
+            return incrementos.isEmpty() || gravar(incrementos);
+        } finally {
+            descarga.unlock();
+        }
+    }
+
+    private boolean possuiPendentes() {
+        return !removidos.isEmpty() || pendentes.values().stream().anyMatch(contador -> contador.sum() > 0);
+    }
+
+    private List<Incremento> coletarIncrementos() {
+        var incrementos = new ArrayList<Incremento>();
+        for (int i = removidos.size(); i > 0; i--) {
+            var removido = removidos.poll();
+            adicionar(incrementos, removido.getKey(), removido.getValue().sumThenReset());
+        }
+        for (var entrada : pendentes.entrySet()) {
+            var quantidade = entrada.getValue().sumThenReset();
+            if (quantidade == 0 && pendentes.remove(entrada.getKey(), entrada.getValue())) {
+                removidos.add(entrada);
+            }
+            adicionar(incrementos, entrada.getKey(), quantidade);
+        }
+        return incrementos;
+    }
+
+    private boolean gravar(List<Incremento> incrementos) {
+        try {
+            // os blocos de TAMANHO_LOTE são confirmados juntos: reenviar todos após uma falha não duplica nenhum
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(SQL_INCREMENTAR, incrementos, TAMANHO_LOTE, (ps, incremento) -> {
+                        ps.setLong(1, incremento.quantidade());
+                        ps.setObject(2, incremento.id());
+                    }));
+        } catch (DataAccessException | TransactionException e) {
+            log.error("Falha ao gravar {} incrementos de gostei; serão reenviados", incrementos.size(), e);
+            incrementos.forEach(incremento -> pendentes
+                    .computeIfAbsent(incremento.id(), chave -> new LongAdder())
+                    .add(incremento.quantidade()));
+            return false;
+        }
+        var cache = cacheManager.getCache(CacheConfig.CACHE_MENSAGENS);
+        if (cache != null) {
+            incrementos.forEach(incremento -> cache.evict(incremento.id()));
+        }
+        // o UPDATE não passa pelo Hibernate, que não sabe que as linhas mudaram
+        cacheSegundoNivel.invalidarMensagens(incrementos.stream().map(Incremento::id).toList());
+        return true;
+    }
+
+    private static void adicionar(List<Incremento> incrementos, UUID id, long quantidade) {
+        if (quantidade > 0) {
+            incrementos.add(new Incremento(id, quantidade));
+        }
+    }
+
+    record Incremento(UUID id, long quantidade) {
+    }
+}
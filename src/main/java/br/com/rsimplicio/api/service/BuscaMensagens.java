@@ -0,0 +1,26 @@
+package br.com.rsimplicio.api.service;
+
+import br.com.rsimplicio.api.model.CursorBusca;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Backend da busca textual em {@code usuario} e {@code conteudo}, escolhido
+ * por {@code mensagens.busca.backend}: {@code memoria} (índice invertido em
+ * processo, padrão) ou {@code postgres} ({@code tsvector} com índice GIN).
+ */
+public interface BuscaMensagens {
+
+    /**
+     * Mensagens que contêm todos os termos da consulta, por relevância
+     * decrescente e id decrescente, a partir da posição {@code apos} (null: do início).
+     */
+    List<Resultado> buscar(String consulta, CursorBusca apos, int limite);
+
+    record Resultado(UUID id, double relevancia) {
+
+        public CursorBusca cursor() {
+            return new CursorBusca(relevancia, id);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.rsimplicio.api.service;
+
+import br.com.rsimplicio.api.model.CursorBusca;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Busca pela coluna gerada {@code busca} ({@code tsvector} com índice GIN,
+ * migração em {@code db/vendor/postgresql}). A configuração {@code simple}
+ * não aplica radicais, como o índice em memória, mas mantém os acentos.
+ */
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "mensagens.busca.backend", havingValue = "postgres")
+public class BuscaMensagensPostgres implements BuscaMensagens {
+    static final String SQL_BUSCAR = """
+            SELECT m.id, ts_rank(m.busca, q.consulta) AS relevancia
+            FROM mensagem m, plainto_tsquery('simple', :consulta) AS q(consulta)
+            WHERE m.busca @@ q.consulta
+            ORDER BY relevancia DESC, m.id DESC
+            LIMIT :limite""";
+    static final String SQL_BUSCAR_APOS = """
+            SELECT m.id, ts_rank(m.busca, q.consulta) AS relevancia
+            FROM mensagem m, plainto_tsquery('simple', :consulta) AS q(consulta)
+            WHERE m.busca @@ q.consulta
+              AND (ts_rank(m.busca, q.consulta), m.id) < (CAST(:relevancia AS real), :id)
+            ORDER BY relevancia DESC, m.id DESC
+            LIMIT :limite""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public BuscaMensagensPostgres(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Resultado> buscar(String consulta, CursorBusca apos, int limite) {
+        var parametros = new MapSqlParameterSource()
+                .addValue("consulta", consulta)
+                .addValue("limite", limite);
+        if (apos != null) {
+            parametros.addValue("relevancia", apos.relevancia())
+                    .addValue("id", apos.id());
+        }
+        return jdbcTemplate.query(apos == null ? SQL_BUSCAR : SQL_BUSCAR_APOS, parametros,
+                (linha, numero) -> new Resultado(
+                        linha.getObject("id", UUID.class),
+                        linha.getFloat("relevancia")));
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.rsimplicio.api.service;
+
+import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.repository.MensagemRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache de segundo nível do Hibernate para {@link Mensagem}: a região da entidade e a
+ * região {@value MensagemRepository#REGIAO_LISTAGEM} do cache de consultas.
+ *
+ * <p>O registro passa pela entidade e o Hibernate invalida a região de consultas sozinho.
+ * Alteração e exclusão, feitas com um UPDATE/DELETE nativo, passam por {@link #invalidarMensagem};
+ * a descarga dos "gostei", feita por JDBC, por {@link #invalidarMensagens}. Acertos, falhas e inclusões de cada região ficam
+ * em {@value #METRICA_REQUISICOES} e {@value #METRICA_INCLUSOES}.
+ */
+@Component
+@Profile("!reactive")
+public class CacheSegundoNivel {
+    static final String METRICA_REQUISICOES = "mensagens.cache.regiao.requests";
+    static final String METRICA_INCLUSOES = "mensagens.cache.regiao.puts";
+    static final String REGIAO_MENSAGEM = Mensagem.REGIAO_CACHE;
+
+    private final SessionFactory sessionFactory;
+
+    public CacheSegundoNivel(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        var estatisticas = sessionFactory.getStatistics();
+        for (var regiao : List.of(REGIAO_MENSAGEM, MensagemRepository.REGIAO_LISTAGEM)) {
+            registrar(meterRegistry, estatisticas, regiao);
+        }
+    }
+
+    /**
+     * Remove a mensagem alterada ou excluída da região da entidade e descarta as páginas
+     * da listagem, que trazem o conteúdo e deixam de ter a mensagem excluída.
+     */
+    public void invalidarMensagem(UUID id) {
+        var cache = sessionFactory.getCache();
+        cache.evictEntityData(Mensagem.class, id);
+        cache.evictQueryRegion(MensagemRepository.REGIAO_LISTAGEM);
+    }
+
+    /**
+     * Remove as mensagens da região da entidade. As páginas da listagem ficam: só o
+     * número de "gostei" mudou, e elas expiram em segundos ({@code application.conf});
+     * descartá-las a cada descarga deixaria a região quase sempre vazia.
+     */
+    public void invalidarMensagens(Collection<UUID> ids) {
+        var cache = sessionFactory.getCache();
+        ids.forEach(id -> cache.evictEntityData(Mensagem.class, id));
+    }
+
+    private static void registrar(MeterRegistry meterRegistry, Statistics estatisticas, String regiao) {
+        FunctionCounter.builder(METRICA_REQUISICOES, estatisticas,
+                        s -> contar(s, regiao, CacheRegionStatistics::getHitCount))
+                .tag("regiao", regiao)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRICA_REQUISICOES, estatisticas,
+                        s -> contar(s, regiao, CacheRegionStatistics::getMissCount))
+                .tag("regiao", regiao)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRICA_INCLUSOES, estatisticas,
+                        s -> contar(s, regiao, CacheRegionStatistics::getPutCount))
+                .tag("regiao", regiao)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A região de consultas só existe depois da primeira consulta que a usa; até lá, zero.
+     */
+    private static double contar(Statistics estatisticas, String regiao, ToLongFunction<CacheRegionStatistics> contador) {
+        var regiaoEstatisticas = estatisticas.getCacheRegionStatistics(regiao);
+        return regiaoEstatisticas == null ? 0 : contador.applyAsLong(regiaoEstatisticas);
+    }
+}
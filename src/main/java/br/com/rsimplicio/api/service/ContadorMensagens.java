@@ -0,0 +1,62 @@
+package br.com.rsimplicio.api.service;
+
+import br.com.rsimplicio.api.repository.MensagemRepository;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Total aproximado de mensagens. Ajustado a cada registro/exclusão e
+ * recontado no banco no máximo uma vez por {@code validade}.
+ */
+@Component
+@Profile("!reactive")
+public class ContadorMensagens {
+    private final MensagemRepository mensagemRepository;
+    private final long validadeNanos;
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicBoolean recontando = new AtomicBoolean();
+    private volatile long recontadoEm;
+    private volatile boolean inicializado;
+
+    public ContadorMensagens(MensagemRepository mensagemRepository,
+                             @Value("${mensagens.contagem.validade:60s}") Duration validade) {
+        this.mensagemRepository = mensagemRepository;
+        this.validadeNanos = validade.toNanos();
+    }
+
+    public long totalAproximado() {
+        if (!inicializado || System.nanoTime() - recontadoEm > validadeNanos) {
+            recontar();
+        }
+        return Math.max(0, total.get());
+    }
+
+    public void incrementar() {
+        total.incrementAndGet();
+    }
+
+    public void adicionar(long quantidade) {
+        total.addAndGet(quantidade);
+    }
+
+    public void decrementar() {
+        total.decrementAndGet();
+    }
+
+    private void recontar() {
+        if (!recontando.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            total.set(mensagemRepository.count());
+            recontadoEm = System.nanoTime();
+            inicializado = true;
+        } finally {
+            recontando.set(false);
+        }
+    }
+}
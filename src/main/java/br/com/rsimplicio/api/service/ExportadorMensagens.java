@@ -0,0 +1,35 @@
+package br.com.rsimplicio.api.service;
+
+import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.repository.MensagemRepository;
+import jakarta.persistence.EntityManager;
+import java.util.function.Consumer;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Percorre todas as mensagens por um cursor do banco, desanexando cada uma
+ * depois de entregue: o contexto de persistência não cresce com a tabela.
+ */
+@Component
+@Profile("!reactive")
+public class ExportadorMensagens {
+    private final MensagemRepository mensagemRepository;
+    private final EntityManager entityManager;
+
+    public ExportadorMensagens(MensagemRepository mensagemRepository, EntityManager entityManager) {
+        this.mensagemRepository = mensagemRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Transactional(readOnly = true)
+    public void exportar(Consumer<Mensagem> consumidor) {
+        try (var mensagens = mensagemRepository.exportarMensagens()) {
+            mensagens.forEach(mensagem -> {
+                consumidor.accept(mensagem);
+                entityManager.detach(mensagem);
+            });
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package br.com.rsimplicio.api.service;
+
+import br.com.rsimplicio.api.model.MensagemEvento;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Feed de {@code GET /mensagens/stream}: os {@link MensagemEvento} confirmados
+ * recebem uma sequência e entram em um buffer circular de {@code mensagens.feed.capacidade}
+ * posições, de onde a reconexão com {@code Last-Event-ID} é reenviada.
+ *
+ * <p>Quem publica só grava no buffer (sob o lock) e avisa os assinantes (fora dele).
+ * Cada assinante guarda a próxima sequência a enviar e lê o buffer em ordem, em uma
+ * tarefa de um executor limitado ({@code mensagens.feed.threads-envio}) ou em threads
+ * virtuais no perfil {@code virtual-threads}. Um assinante que fica mais de
+ * {@code mensagens.feed.fila-assinante} eventos atrás é desconectado (e pode retomar
+ * pelo {@code Last-Event-ID}), sem nunca bloquear a escrita. A sequência é local à instância.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class FeedMensagens {
+    public static final String METRICA_ASSINANTES = "mensagens.feed.assinantes";
+    public static final String METRICA_DESCONEXOES = "mensagens.feed.desconexoes";
+
+    /** Eventos enviados por tarefa antes de devolver a thread aos demais assinantes. */
+    private static final int LOTE_ENVIO = 64;
+    private static final EventoFeed PULSO = new EventoFeed(0, null);
+    private static final EventoFeed LACUNA = new EventoFeed(0, null);
+
+    private final AtomicReferenceArray<EventoFeed> buffer;
+    private final int capacidadeFila;
+    private final long timeoutMillis;
+    private final Executor envio;
+    private final Counter desconexoes;
+    private final List<Assinante> assinantes = new CopyOnWriteArrayList<>();
+    private final ReentrantLock escrita = new ReentrantLock();
+    private volatile long ultimaSequencia;
+
+    @Autowired
+    public FeedMensagens(@Value("${mensagens.feed.capacidade:1024}") int capacidade,
+                         @Value("${mensagens.feed.fila-assinante:256}") int capacidadeFila,
+                         @Value("${mensagens.feed.timeout:30m}") Duration timeout,
+                         @Value("${mensagens.feed.threads-envio:4}") int threadsEnvio,
+                         @Qualifier("executorThreadsVirtuais") Optional<ExecutorService> threadsVirtuais,
+                         MeterRegistry meterRegistry) {
+        this(capacidade, capacidadeFila, timeout,
+                threadsVirtuais.<Executor>map(executor -> executor).orElseGet(() -> poolEnvio(threadsEnvio)),
+                meterRegistry);
+    }
+
+    FeedMensagens(int capacidade, int capacidadeFila, Duration timeout, Executor envio, MeterRegistry meterRegistry) {
+        this.buffer = new AtomicReferenceArray<>(capacidade);
+        this.capacidadeFila = capacidadeFila;
+        this.timeoutMillis = timeout.toMillis();
+        this.envio = envio;
+        this.desconexoes = Counter.builder(METRICA_DESCONEXOES)
+                .tag("motivo", "atraso")
+                .register(meterRegistry);
+        meterRegistry.gaugeCollectionSize(METRICA_ASSINANTES, List.of(), assinantes);
+    }
+
+    /**
+     * Threads fixas; a fila de tarefas não cresce além do número de assinantes,
+     * já que cada um tem no máximo uma tarefa agendada.
+     */
+    private static ThreadPoolExecutor poolEnvio(int threads) {
+        var fabrica = new CustomizableThreadFactory("feed-mensagens-");
+        fabrica.setDaemon(true);
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), fabrica);
+    }
+
+    public SseEmitter assinar(String ultimoEventoId) {
+        return assinar(ultimoEventoId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter assinar(String ultimoEventoId, SseEmitter emitter) {
+        var ultima = ultimaSequencia;
+        var assinante = new Assinante(emitter, ultima);
+        emitter.onCompletion(() -> assinantes.remove(assinante));
+        emitter.onTimeout(() -> assinantes.remove(assinante));
+        emitter.onError(erro -> assinantes.remove(assinante));
+        var desde = sequencia(ultimoEventoId);
+        if (desde >= 0) {
+            var maisAntiga = Math.max(1, ultima - buffer.length() + 1);
+            if (desde + 1 < maisAntiga || desde > ultima) {
+                assinante.lacuna = true;
+            }
+            assinante.proxima = desde > ultima ? ultima + 1 : Math.max(desde + 1, maisAntiga);
+        }
+        assinantes.add(assinante);
+        // envia o reenvio e o que foi publicado entre a leitura de ultimaSequencia e a inscrição
+        assinante.agendar();
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publicar(MensagemEvento evento) {
+        long sequencia;
+        escrita.lock();
+        try {
+            sequencia = ultimaSequencia + 1;
+            buffer.set(posicao(sequencia), new EventoFeed(sequencia, evento));
+            ultimaSequencia = sequencia;
+        } finally {
+            escrita.unlock();
+        }
+        for (var assinante : assinantes) {
+            assinante.avisar(sequencia);
+        }
+    }
+
+    /**
+     * Comentário SSE periódico para que proxies não encerrem conexões ociosas.
+     */
+    @Scheduled(fixedDelayString = "${mensagens.feed.intervalo-pulso:15000}")
+    public void pulsar() {
+        for (var assinante : assinantes) {
+            assinante.pulsar();
+        }
+    }
+
+    int totalAssinantes() {
+        return assinantes.size();
+    }
+
+    @PreDestroy
+    public void desligar() {
+        assinantes.forEach(assinante -> assinante.emitter.complete());
+        // só o pool próprio; o executor de threads virtuais é compartilhado e tem o seu ciclo de vida
+        if (envio instanceof ThreadPoolExecutor executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    private int posicao(long sequencia) {
+        return (int) (sequencia % buffer.length());
+    }
+
+    private static long sequencia(String ultimoEventoId) {
+        if (ultimoEventoId == null || ultimoEventoId.isBlank()) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(ultimoEventoId.strip());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private record EventoFeed(long sequencia, MensagemEvento evento) {
+
+        SseEmitter.SseEventBuilder paraSse() {
+            if (this == PULSO) {
+                return SseEmitter.event().comment("pulso");
+            }
+            if (this == LACUNA) {
+                return SseEmitter.event()
+                        .name("lacuna")
+                        .data("eventos anteriores não estão mais disponíveis; recarregue GET /mensagens");
+            }
+            Object dados = evento.mensagem() != null ? evento.mensagem() : Map.of("id", evento.id());
+            return SseEmitter.event()
+                    .id(Long.toString(sequencia))
+                    .name(evento.tipo().name().toLowerCase(Locale.ROOT))
+                    .data(dados, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private final class Assinante {
+        private final SseEmitter emitter;
+        // eventos anteriores à inscrição são reenvio: o limite de atraso vale só para os novos
+        private final long inscritoApos;
+        private final AtomicBoolean agendado = new AtomicBoolean();
+        private final AtomicBoolean pulso = new AtomicBoolean();
+        private volatile long proxima;
+        private volatile boolean lacuna;
+        private volatile boolean encerrado;
+
+        Assinante(SseEmitter emitter, long inscritoApos) {
+            this.emitter = emitter;
+            this.inscritoApos = inscritoApos;
+            this.proxima = inscritoApos + 1;
+        }
+
+        void avisar(long sequencia) {
+            if (encerrado) {
+                return;
+            }
+            if (sequencia - Math.max(proxima - 1, inscritoApos) > capacidadeFila) {
+                desconectarPorAtraso();
+                return;
+            }
+            agendar();
+        }
+
+        void pulsar() {
+            if (!encerrado) {
+                pulso.set(true);
+                agendar();
+            }
+        }
+
+        void agendar() {
+            if (agendado.compareAndSet(false, true)) {
+                envio.execute(this::enviar);
+            }
+        }
+
+        private void enviar() {
+            try {
+                if (lacuna) {
+                    lacuna = false;
+                    emitter.send(LACUNA.paraSse());
+                }
+                if (pulso.getAndSet(false)) {
+                    emitter.send(PULSO.paraSse());
+                }
+                for (int enviados = 0; !encerrado && enviados < LOTE_ENVIO && proxima <= ultimaSequencia; enviados++) {
+                    var entrada = buffer.get(posicao(proxima));
+                    if (entrada == null || entrada.sequencia() != proxima) {
+                        // sobrescrita no buffer antes de ser enviada
+                        desconectarPorAtraso();
+                        return;
+                    }
+                    emitter.send(entrada.paraSse());
+                    proxima++;
+                }
+            } catch (IOException | IllegalStateException e) {
+                // cliente desconectado ou emitter já concluído
+                encerrar();
+                return;
+            } finally {
+                agendado.set(false);
+            }
+            if (!encerrado && (proxima <= ultimaSequencia || pulso.get())) {
+                agendar();
+            }
+        }
+
+        private void desconectarPorAtraso() {
+            desconexoes.increment();
+            log.warn("Assinante do feed desconectado: {} eventos pendentes", ultimaSequencia - proxima + 1);
+            encerrar();
+        }
+
+        private void encerrar() {
+            encerrado = true;
+            assinantes.remove(this);
+            envio.execute(emitter::complete);
+        }
+    }
+}
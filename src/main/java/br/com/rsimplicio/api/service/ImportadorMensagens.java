@@ -0,0 +1,224 @@
+package br.com.rsimplicio.api.service;
+
+import br.com.rsimplicio.api.model.ItemLote;
+import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.model.ResumoImportacao;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Importa NDJSON com um {@link MappingIterator} sobre o corpo, gravando em blocos pelo
+ * {@link RegistradorLote}: a memória usada depende do tamanho do bloco e das strings de
+ * cada mensagem (até {@code tamanhoMaximoLinha} caracteres), nunca do tamanho do corpo.
+ * Como a leitura é síncrona, um banco lento desacelera o consumo do corpo e o TCP segura
+ * o cliente.
+ *
+ * <p>Cada linha importada vira uma mensagem nova, como no {@code POST /mensagens/batch}:
+ * {@code id} e {@code dataCriacao} vindos do arquivo são substituídos na gravação, então
+ * exportar e importar copia o conteúdo, não as identidades.
+ *
+ * <p>Uma linha inválida é rejeitada e a leitura recomeça na linha seguinte, com um parser
+ * novo sobre o que o anterior ainda não tinha consumido.
+ */
+@Component
+@Profile("!reactive")
+public class ImportadorMensagens {
+    static final int LIMITE_LINHAS_LISTADAS = 1000;
+
+    private final RegistradorLote registradorLote;
+    private final ObjectReader leitor;
+    private final JsonFactory fabrica;
+    private final int tamanhoBloco;
+
+    public ImportadorMensagens(RegistradorLote registradorLote,
+                               ObjectMapper objectMapper,
+                               @Value("${mensagens.lote.tamanho:500}") int tamanhoBloco,
+                               @Value("${mensagens.importacao.tamanho-maximo-linha:65536}") int tamanhoMaximoLinha) {
+        this.registradorLote = registradorLote;
+        this.leitor = objectMapper.readerFor(Mensagem.class);
+        this.fabrica = objectMapper.getFactory().copy()
+                .setStreamReadConstraints(StreamReadConstraints.builder()
+                        .maxStringLength(tamanhoMaximoLinha)
+                        .build())
+                .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        this.tamanhoBloco = tamanhoBloco;
+    }
+
+    public ResumoImportacao importar(InputStream entrada) throws IOException {
+        var corpo = new EntradaContada(entrada);
+        var importacao = new Importacao();
+        while (lerAteLinhaInvalida(corpo, importacao)) {
+            // recomeça depois da linha inválida
+        }
+        importacao.gravar();
+        return importacao.paraResumo(corpo.linhas());
+    }
+
+    /**
+     * Lê até o fim do corpo ou até a primeira linha inválida (devolve {@code true}): depois
+     * de um erro o parser não se recupera, então o corpo volta para a linha seguinte.
+     */
+    private boolean lerAteLinhaInvalida(EntradaContada corpo, Importacao importacao) throws IOException {
+        var parser = fabrica.createParser(corpo);
+        MappingIterator<Mensagem> mensagens = leitor.readValues(parser);
+        long linha = 0;
+        try {
+            while (mensagens.hasNextValue()) {
+                linha = importacao.linhasAnteriores + parser.currentTokenLocation().getLineNr();
+                importacao.adicionar(mensagens.nextValue(), linha);
+                linha = 0;
+            }
+        } catch (JsonProcessingException e) {
+            // o parser lê adiante: o que ficou no buffer dele volta para o corpo
+            var pendentes = new ByteArrayOutputStream();
+            parser.releaseBuffered(pendentes);
+            corpo.devolver(pendentes.toByteArray());
+            // ele só avança a linha nas quebras entre valores; uma quebra a mais é o próprio
+            // caractere inválido (string sem fim, token desconhecido): a linha do erro acabou
+            var quebraNoErro = corpo.quebras - importacao.linhasAnteriores > parser.currentLocation().getLineNr() - 1;
+            var linhaDoErro = quebraNoErro ? corpo.quebras : corpo.quebras + 1;
+            // rejeita a linha em que a mensagem começou; fora de uma mensagem, a do erro
+            importacao.rejeitar(linha > 0 ? linha : linhaDoErro);
+            importacao.linhasAnteriores = linhaDoErro;
+            mensagens.close();
+            if (!quebraNoErro) {
+                corpo.descartarLinha();
+            }
+            return true;
+        }
+        mensagens.close();
+        return false;
+    }
+
+    /**
+     * Corpo da importação com as quebras de linha já consumidas pelos parsers. Os bytes que um
+     * parser leu adiante e não usou são devolvidos e entregues de novo ao próximo.
+     */
+    private static final class EntradaContada extends FilterInputStream {
+        private long quebras;
+        private int ultimo = '\n';
+        private byte[] devolvidos = new byte[0];
+        private int posicao;
+
+        EntradaContada(InputStream entrada) {
+            super(entrada);
+        }
+
+        @Override
+        public int read() throws IOException {
+            var b = posicao < devolvidos.length ? devolvidos[posicao++] & 0xFF : super.read();
+            if (b != -1) {
+                ultimo = b;
+                if (b == '\n') {
+                    quebras++;
+                }
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] bytes, int inicio, int tamanho) throws IOException {
+            int lidos;
+            if (posicao < devolvidos.length) {
+                lidos = Math.min(tamanho, devolvidos.length - posicao);
+                System.arraycopy(devolvidos, posicao, bytes, inicio, lidos);
+                posicao += lidos;
+            } else {
+                lidos = super.read(bytes, inicio, tamanho);
+            }
+            for (int i = inicio; i < inicio + lidos; i++) {
+                if (bytes[i] == '\n') {
+                    quebras++;
+                }
+            }
+            if (lidos > 0) {
+                ultimo = bytes[inicio + lidos - 1];
+            }
+            return lidos;
+        }
+
+        void devolver(byte[] bytes) {
+            var restantes = devolvidos.length - posicao;
+            var novos = new byte[bytes.length + restantes];
+            System.arraycopy(bytes, 0, novos, 0, bytes.length);
+            System.arraycopy(devolvidos, posicao, novos, bytes.length, restantes);
+            for (var b : bytes) {
+                if (b == '\n') {
+                    quebras--;
+                }
+            }
+            devolvidos = novos;
+            posicao = 0;
+        }
+
+        void descartarLinha() throws IOException {
+            int b;
+            do {
+                b = read();
+            } while (b != -1 && b != '\n');
+        }
+
+        /** A última linha só conta sem quebra no fim se tiver algum caractere. */
+        long linhas() {
+            return ultimo == '\n' ? quebras : quebras + 1;
+        }
+    }
+
+    private final class Importacao {
+        private long linhasAnteriores;
+        private long importadas;
+        private long rejeitadas;
+        private final List<Long> linhasRejeitadas = new ArrayList<>();
+        private List<Mensagem> bloco = new ArrayList<>(tamanhoBloco);
+        private List<Long> linhasBloco = new ArrayList<>(tamanhoBloco);
+
+        void adicionar(Mensagem mensagem, long linha) {
+            bloco.add(mensagem);
+            linhasBloco.add(linha);
+            if (bloco.size() == tamanhoBloco) {
+                gravar();
+            }
+        }
+
+        void gravar() {
+            if (bloco.isEmpty()) {
+                return;
+            }
+            var itens = registradorLote.registrar(bloco);
+            for (var item : itens) {
+                if (item.status() == ItemLote.Status.REGISTRADA) {
+                    importadas++;
+                } else {
+                    rejeitar(linhasBloco.get(item.indice()));
+                }
+            }
+            bloco = new ArrayList<>(tamanhoBloco);
+            linhasBloco = new ArrayList<>(tamanhoBloco);
+        }
+
+        void rejeitar(long numeroLinha) {
+            rejeitadas++;
+            if (linhasRejeitadas.size() < LIMITE_LINHAS_LISTADAS) {
+                linhasRejeitadas.add(numeroLinha);
+            }
+        }
+
+        ResumoImportacao paraResumo(long linhas) {
+            return new ResumoImportacao(linhas, importadas, rejeitadas, linhasRejeitadas);
+        }
+    }
+}
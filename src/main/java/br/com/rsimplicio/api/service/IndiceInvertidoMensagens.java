@@ -0,0 +1,211 @@
+package br.com.rsimplicio.api.service;
+
+import br.com.rsimplicio.api.model.CursorBusca;
+import br.com.rsimplicio.api.model.MensagemEvento;
+import br.com.rsimplicio.api.model.TextoMensagem;
+import br.com.rsimplicio.api.repository.MensagemRepository;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Índice invertido em memória sobre {@code usuario} e {@code conteudo}:
+ * termo → (id → frequência). Reconstruído em paralelo (fork/join) quando a
+ * aplicação sobe e mantido pelos {@link MensagemEvento} depois de cada commit.
+ *
+ * <p>Os termos são normalizados sem acentos e em minúsculas. A relevância é
+ * a soma de {@code tf * ln(1 + N/df)} dos termos da consulta, calculada na hora:
+ * com escritas entre duas páginas o cursor continua válido, mas a ordem pode variar.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "mensagens.busca.backend", havingValue = "memoria", matchIfMissing = true)
+public class IndiceInvertidoMensagens implements BuscaMensagens {
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int TAMANHO_MINIMO_TERMO = 2;
+    private static final int LIMIAR_PARTICAO = 2048;
+    private static final Comparator<Resultado> ORDEM = Comparator
+            .comparingDouble(Resultado::relevancia)
+            .thenComparing(Resultado::id)
+            .reversed();
+
+    private final MensagemRepository mensagemRepository;
+    private final ConcurrentHashMap<String, ConcurrentHashMap<UUID, Integer>> indice = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Map<String, Integer>> termosPorMensagem = new ConcurrentHashMap<>();
+
+    public IndiceInvertidoMensagens(MensagemRepository mensagemRepository) {
+        this.mensagemRepository = mensagemRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        var inicio = System.nanoTime();
+        var textos = mensagemRepository.listarTextos();
+        ForkJoinPool.commonPool().invoke(new Indexacao(textos, 0, textos.size()));
+        log.info("Índice de busca reconstruído com {} mensagens em {} ms",
+                textos.size(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarMensagem(MensagemEvento evento) {
+        switch (evento.tipo()) {
+            case REGISTRADA, ALTERADA -> indexar(
+                    evento.id(), evento.mensagem().getUsuario(), evento.mensagem().getConteudo(), true);
+            case EXCLUIDA -> remover(evento.id());
+        }
+    }
+
+    @Override
+    public List<Resultado> buscar(String consulta, CursorBusca apos, int limite) {
+        var termos = tokenizar(consulta).stream().distinct().toList();
+        if (termos.isEmpty()) {
+            return List.of();
+        }
+        var postagens = new ArrayList<Map<UUID, Integer>>(termos.size());
+        for (var termo : termos) {
+            var postagem = indice.get(termo);
+            if (postagem == null) {
+                return List.of();
+            }
+            postagens.add(postagem);
+        }
+        // percorre a lista mais curta e confere as demais (todos os termos são obrigatórios)
+        postagens.sort(Comparator.comparingInt(Map::size));
+        var total = Math.max(1, termosPorMensagem.size());
+        var idf = postagens.stream()
+                .mapToDouble(postagem -> Math.log(1 + (double) total / Math.max(1, postagem.size())))
+                .toArray();
+        // cresce conforme os candidatos, não pelo limite pedido
+        var melhores = new PriorityQueue<>(ORDEM.reversed());
+        candidatos:
+        for (var id : postagens.get(0).keySet()) {
+            var relevancia = 0.0;
+            for (int i = 0; i < postagens.size(); i++) {
+                var frequencia = postagens.get(i).get(id);
+                if (frequencia == null) {
+                    continue candidatos;
+                }
+                relevancia += frequencia * idf[i];
+            }
+            var resultado = new Resultado(id, relevancia);
+            if (apos != null && ORDEM.compare(resultado, apos(apos)) <= 0) {
+                continue;
+            }
+            melhores.add(resultado);
+            if (melhores.size() > limite) {
+                melhores.poll();
+            }
+        }
+        var resultados = new ArrayList<>(melhores);
+        resultados.sort(ORDEM);
+        return resultados;
+    }
+
+    private static Resultado apos(CursorBusca cursor) {
+        return new Resultado(cursor.id(), cursor.relevancia());
+    }
+
+    /**
+     * Troca os termos indexados da mensagem; com {@code substituir} falso mantém
+     * uma entrada já existente (a reconstrução não sobrescreve eventos mais novos).
+     */
+    void indexar(UUID id, String usuario, String conteudo, boolean substituir) {
+        var novos = frequencias(usuario, conteudo);
+        termosPorMensagem.compute(id, (chave, antigos) -> {
+            if (antigos != null) {
+                if (!substituir) {
+                    return antigos;
+                }
+                antigos.keySet().forEach(termo -> desindexar(termo, id));
+            }
+            novos.forEach((termo, frequencia) -> indice.compute(termo, (t, mensagens) -> {
+                var postagem = mensagens == null ? new ConcurrentHashMap<UUID, Integer>() : mensagens;
+                postagem.put(id, frequencia);
+                return postagem;
+            }));
+            return novos;
+        });
+    }
+
+    void remover(UUID id) {
+        termosPorMensagem.computeIfPresent(id, (chave, antigos) -> {
+            antigos.keySet().forEach(termo -> desindexar(termo, id));
+            return null;
+        });
+    }
+
+    private void desindexar(String termo, UUID id) {
+        indice.computeIfPresent(termo, (t, mensagens) -> {
+            mensagens.remove(id);
+            return mensagens.isEmpty() ? null : mensagens;
+        });
+    }
+
+    static List<String> tokenizar(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return List.of();
+        }
+        var normalizado = MARCAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        var termos = new ArrayList<String>();
+        for (var termo : SEPARADORES.split(normalizado)) {
+            if (termo.length() >= TAMANHO_MINIMO_TERMO) {
+                termos.add(termo);
+            }
+        }
+        return termos;
+    }
+
+    private static Map<String, Integer> frequencias(String... textos) {
+        var frequencias = new HashMap<String, Integer>();
+        for (var texto : textos) {
+            tokenizar(texto).forEach(termo -> frequencias.merge(termo, 1, Integer::sum));
+        }
+        return frequencias;
+    }
+
+    private class Indexacao extends RecursiveAction {
+        private final List<TextoMensagem> textos;
+        private final int inicio;
+        private final int fim;
+
+        Indexacao(List<TextoMensagem> textos, int inicio, int fim) {
+            this.textos = textos;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio <= LIMIAR_PARTICAO) {
+                for (int i = inicio; i < fim; i++) {
+                    var texto = textos.get(i);
+                    indexar(texto.id(), texto.usuario(), texto.conteudo(), false);
+                }
+                return;
+            }
+            var meio = (inicio + fim) >>> 1;
+            invokeAll(new Indexacao(textos, inicio, meio), new Indexacao(textos, meio, fim));
+        }
+    }
+}
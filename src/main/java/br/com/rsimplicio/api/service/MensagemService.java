@@ -2,6 +2,11 @@
 package br.com.rsimplicio.api.service;
 
 import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.model.MensagemResumo;
+import br.com.rsimplicio.api.model.PaginaCursor;
+import br.com.rsimplicio.api.model.PaginaSlice;
+import br.com.rsimplicio.api.model.ResultadoLote;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,13 +15,50 @@ import org.springframework.data.domain.Pageable;
  * TBD.
  */
 public interface MensagemService {
+    /**
+     * No registro assíncrono a mensagem volta só com o id, antes de ser gravada.
+     */
     Mensagem registrarMensagem(Mensagem mensagem);
 
+    /**
+     * Se {@link #registrarMensagem} apenas enfileira a mensagem (mensagens.registro.assincrono).
+     */
+    boolean registroAssincrono();
+
+    ResultadoLote registrarMensagens(List<Mensagem> mensagens);
+
     Mensagem buscarMensagem(UUID id);
 
     Mensagem alterarMensagem(UUID id, Mensagem mensagemModificada);
 
+    /**
+     * Altera apenas se a mensagem estiver na {@code versaoEsperada} (null: qualquer versão).
+     */
+    Mensagem alterarMensagem(UUID id, Mensagem mensagemModificada, Long versaoEsperada);
+
     boolean excluirMensagem(UUID id);
 
-    Page<Mensagem> listarMensagens(Pageable pageable);
+    boolean excluirMensagem(UUID id, Long versaoEsperada);
+
+    void registrarGostei(UUID id);
+
+    /**
+     * Página de projeções somente leitura, sem entidades gerenciadas.
+     */
+    Page<MensagemResumo> listarMensagens(Pageable pageable);
+
+    PaginaCursor<Mensagem> listarMensagens(String cursor, int tamanho);
+
+    /**
+     * Mensagens de um usuário, da mais recente para a mais antiga, por cursor.
+     */
+    PaginaCursor<Mensagem> listarMensagensDoUsuario(String usuario, String cursor, int tamanho);
+
+    PaginaSlice<MensagemResumo> listarMensagensSemContagem(Pageable pageable, boolean incluirTotal);
+
+    /**
+     * Busca textual em usuário e conteúdo, por relevância; {@code cursor} é o
+     * {@code nextCursor} da página anterior (null: primeira página).
+     */
+    PaginaCursor<Mensagem> buscarMensagens(String consulta, String cursor, int tamanho);
 }
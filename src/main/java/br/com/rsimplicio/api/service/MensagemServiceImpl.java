@@ -1,54 +1,267 @@
 package br.com.rsimplicio.api.service;
 
+import br.com.rsimplicio.api.config.CacheConfig;
+import br.com.rsimplicio.api.config.LeituraPrimaria;
+import br.com.rsimplicio.api.config.LeituraPrimariaAspect;
 import br.com.rsimplicio.api.exception.MensagemNotFoundException;
+import br.com.rsimplicio.api.exception.VersaoDivergenteException;
+import br.com.rsimplicio.api.id.GeradorId;
+import br.com.rsimplicio.api.model.CursorBusca;
+import br.com.rsimplicio.api.model.CursorMensagem;
 import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.model.MensagemEvento;
+import br.com.rsimplicio.api.model.MensagemResumo;
+import br.com.rsimplicio.api.model.PaginaCursor;
+import br.com.rsimplicio.api.model.PaginaSlice;
+import br.com.rsimplicio.api.model.ResultadoLote;
 import br.com.rsimplicio.api.repository.MensagemRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Profile("!reactive")
 public class MensagemServiceImpl implements MensagemService {
+    /**
+     * Páginas de {@code GET /mensagens} servidas pelo cache de consultas do Hibernate;
+     * as demais são raras e só ocupariam a região.
+     */
+    static final int PAGINAS_EM_CACHE = 3;
+
     private final MensagemRepository mensagemRepository;
+    private final GeradorId geradorId;
+    private final ContadorMensagens contadorMensagens;
+    private final AcumuladorGostei acumuladorGostei;
+    private final RegistradorLote registradorLote;
+    private final BuscaMensagens buscaMensagens;
+    private final ApplicationEventPublisher eventos;
+    private final RegistroAssincrono registroAssincrono;
+    private final CacheSegundoNivel cacheSegundoNivel;
 
     @Autowired
-    public MensagemServiceImpl(MensagemRepository mensagemRepository) {
+    public MensagemServiceImpl(MensagemRepository mensagemRepository,
+                               GeradorId geradorId,
+                               ContadorMensagens contadorMensagens,
+                               AcumuladorGostei acumuladorGostei,
+                               RegistradorLote registradorLote,
+                               BuscaMensagens buscaMensagens,
+                               ApplicationEventPublisher eventos,
+                               Optional<RegistroAssincrono> registroAssincrono,
+                               CacheSegundoNivel cacheSegundoNivel) {
         this.mensagemRepository = mensagemRepository;
+        this.geradorId = geradorId;
+        this.contadorMensagens = contadorMensagens;
+        this.acumuladorGostei = acumuladorGostei;
+        this.registradorLote = registradorLote;
+        this.buscaMensagens = buscaMensagens;
+        this.eventos = eventos;
+        this.registroAssincrono = registroAssincrono.orElse(null);
+        this.cacheSegundoNivel = cacheSegundoNivel;
     }
 
     @Override
     public Mensagem registrarMensagem(Mensagem mensagem) {
-        mensagem.setId(UUID.randomUUID());
-        return mensagemRepository.save(mensagem);
+        mensagem.setId(geradorId.gerar());
+        if (registroAssincrono != null) {
+            registroAssincrono.aceitar(mensagem);
+            return mensagem;
+        }
+        var mensagemRegistrada = mensagemRepository.save(mensagem);
+        contadorMensagens.incrementar();
+        eventos.publishEvent(MensagemEvento.registrada(mensagemRegistrada));
+        return mensagemRegistrada;
+    }
+
+    @Override
+    public boolean registroAssincrono() {
+        return registroAssincrono != null;
     }
 
     @Override
+    public ResultadoLote registrarMensagens(List<Mensagem> mensagens) {
+        return ResultadoLote.de(registradorLote.registrar(mensagens));
+    }
+
+    @Override
+    @LeituraPrimaria
+    @Cacheable(CacheConfig.CACHE_MENSAGENS)
+    @Transactional(readOnly = true)
     public Mensagem buscarMensagem(UUID id) {
-        return mensagemRepository.findById(id).orElseThrow(() -> new MensagemNotFoundException("Mensagem não encontrada"));
+        // aceita e ainda não gravada: servida da fila, sem ir ao banco
+        var pendente = registroAssincrono == null ? Optional.<Mensagem>empty() : registroAssincrono.buscarPendente(id);
+        return pendente.or(() -> mensagemRepository.findById(id))
+                .orElseThrow(() -> new MensagemNotFoundException("Mensagem não encontrada"));
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_MENSAGENS, key = "#id")
     public Mensagem alterarMensagem(UUID id, Mensagem mensagemAtualizada) {
-        var mensagem = this.buscarMensagem(id);
-        if(!mensagem.getId().equals(mensagemAtualizada.getId())){
+        return this.alterarMensagem(id, mensagemAtualizada, null);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_MENSAGENS, key = "#id")
+    public Mensagem alterarMensagem(UUID id, Mensagem mensagemAtualizada, Long versaoEsperada) {
+        if (!id.equals(mensagemAtualizada.getId())) {
             throw new MensagemNotFoundException("Mensagem atualizada não apresenta o mesmo id");
         }
-        mensagem.setConteudo(mensagemAtualizada.getConteudo());
-        return mensagemRepository.save(mensagem);
+        var conteudo = mensagemAtualizada.getConteudo();
+        var dataAlteracao = LocalDateTime.now();
+        var alteradas = versaoEsperada == null
+                ? mensagemRepository.alterarConteudo(id, conteudo, dataAlteracao)
+                : mensagemRepository.alterarConteudoNaVersao(id, conteudo, dataAlteracao, versaoEsperada);
+        if (alteradas == 0) {
+            throw this.falhaSemLinhaAfetada(id, versaoEsperada);
+        }
+        // depois do commit do UPDATE: só essa mensagem sai do cache de segundo nível
+        cacheSegundoNivel.invalidarMensagem(id);
+        var mensagemAlterada = mensagemRepository.buscarNoPrimario(id)
+                .orElseThrow(() -> new MensagemNotFoundException("Mensagem não encontrada"));
+        eventos.publishEvent(MensagemEvento.alterada(mensagemAlterada));
+        return mensagemAlterada;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_MENSAGENS, key = "#id")
     public boolean excluirMensagem(UUID id) {
-        this.buscarMensagem(id);
-        mensagemRepository.deleteById(id);
+        return this.excluirMensagem(id, null);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_MENSAGENS, key = "#id")
+    public boolean excluirMensagem(UUID id, Long versaoEsperada) {
+        var excluidas = versaoEsperada == null
+                ? mensagemRepository.excluirMensagem(id)
+                : mensagemRepository.excluirMensagemNaVersao(id, versaoEsperada);
+        if (excluidas == 0) {
+            throw this.falhaSemLinhaAfetada(id, versaoEsperada);
+        }
+        cacheSegundoNivel.invalidarMensagem(id);
+        contadorMensagens.decrementar();
+        eventos.publishEvent(MensagemEvento.excluida(id));
         return true;
     }
 
+    /**
+     * Nenhuma linha afetada: só consulta a existência (caminho de erro) para
+     * distinguir versão divergente de mensagem inexistente.
+     */
+    private RuntimeException falhaSemLinhaAfetada(UUID id, Long versaoEsperada) {
+        if (versaoEsperada != null && mensagemRepository.existsById(id)) {
+            return new VersaoDivergenteException("Mensagem foi alterada por outra requisição");
+        }
+        return new MensagemNotFoundException("Mensagem não encontrada");
+    }
+
+    @Override
+    public void registrarGostei(UUID id) {
+        acumuladorGostei.registrar(id);
+    }
+
     @Override
-    public Page<Mensagem> listarMensagens(Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<MensagemResumo> listarMensagens(Pageable pageable) {
+        if (pageable.isPaged() && pageable.getPageNumber() < PAGINAS_EM_CACHE) {
+            // só as páginas que entram no cache de consultas vêm do primário; as demais, da réplica
+            return LeituraPrimariaAspect.noPrimario(() -> mensagemRepository.listarMensagensEmCache(pageable));
+        }
         return mensagemRepository.listarMensagens(pageable);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaCursor<Mensagem> listarMensagens(String cursor, int tamanho) {
+        if (tamanho < 1) {
+            throw new IllegalArgumentException("Tamanho da página deve ser maior que zero");
+        }
+        List<Mensagem> mensagens;
+        if (cursor == null || cursor.isBlank()) {
+            mensagens = mensagemRepository.listarMensagensIniciais(tamanho + 1);
+        } else {
+            var posicao = CursorMensagem.decodificar(cursor);
+            mensagens = mensagemRepository.listarMensagensApos(posicao.dataCriacao(), posicao.id(), tamanho + 1);
+        }
+        return paginar(mensagens, tamanho);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaCursor<Mensagem> listarMensagensDoUsuario(String usuario, String cursor, int tamanho) {
+        if (tamanho < 1) {
+            throw new IllegalArgumentException("Tamanho da página deve ser maior que zero");
+        }
+        List<Mensagem> mensagens;
+        if (cursor == null || cursor.isBlank()) {
+            mensagens = mensagemRepository.listarMensagensDoUsuarioIniciais(usuario, tamanho + 1);
+        } else {
+            var posicao = CursorMensagem.decodificar(cursor);
+            mensagens = mensagemRepository.listarMensagensDoUsuarioApos(
+                    usuario, posicao.dataCriacao(), posicao.id(), tamanho + 1);
+        }
+        return paginar(mensagens, tamanho);
+    }
+
+    /**
+     * {@code mensagens} traz uma a mais que o {@code tamanho} quando há próxima página.
+     */
+    private static PaginaCursor<Mensagem> paginar(List<Mensagem> mensagens, int tamanho) {
+        if (mensagens.size() <= tamanho) {
+            return new PaginaCursor<>(mensagens, null);
+        }
+        var pagina = mensagens.subList(0, tamanho);
+        var proximoCursor = CursorMensagem.de(pagina.get(tamanho - 1)).codificar();
+        return new PaginaCursor<>(pagina, proximoCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaSlice<MensagemResumo> listarMensagensSemContagem(Pageable pageable, boolean incluirTotal) {
+        var mensagens = mensagemRepository.listarMensagensSemContagem(pageable);
+        Long total = incluirTotal ? contadorMensagens.totalAproximado() : null;
+        return new PaginaSlice<>(
+                mensagens.getContent(),
+                mensagens.getNumber(),
+                mensagens.getSize(),
+                mensagens.isFirst(),
+                mensagens.isLast(),
+                total);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaCursor<Mensagem> buscarMensagens(String consulta, String cursor, int tamanho) {
+        if (consulta == null || consulta.isBlank()) {
+            throw new IllegalArgumentException("Consulta não pode ser vazia");
+        }
+        if (tamanho < 1) {
+            throw new IllegalArgumentException("Tamanho da página deve ser maior que zero");
+        }
+        var apos = cursor == null || cursor.isBlank() ? null : CursorBusca.decodificar(cursor);
+        var resultados = buscaMensagens.buscar(consulta, apos, tamanho + 1);
+        var pagina = resultados.size() > tamanho ? resultados.subList(0, tamanho) : resultados;
+        // uma consulta por página; a ordem é a da relevância, não a do banco
+        var encontradas = mensagemRepository.findAllById(pagina.stream().map(BuscaMensagens.Resultado::id).toList())
+                .stream()
+                .collect(Collectors.toMap(Mensagem::getId, Function.identity()));
+        var mensagens = pagina.stream()
+                .map(resultado -> encontradas.get(resultado.id()))
+                .filter(Objects::nonNull)
+                .toList();
+        var proximoCursor = resultados.size() > tamanho ? pagina.get(tamanho - 1).cursor().codificar() : null;
+        return new PaginaCursor<>(mensagens, proximoCursor);
+    }
 }
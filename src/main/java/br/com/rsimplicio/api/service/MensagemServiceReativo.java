@@ -0,0 +1,30 @@
+package br.com.rsimplicio.api.service;
+
+import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.model.PaginaCursor;
+import br.com.rsimplicio.api.model.PaginaSlice;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Mesmo contrato de {@link MensagemService}, sem bloquear: ativo no perfil {@code reactive}.
+ */
+public interface MensagemServiceReativo {
+    Mono<Mensagem> registrarMensagem(Mensagem mensagem);
+
+    Mono<Mensagem> buscarMensagem(UUID id);
+
+    Mono<Mensagem> alterarMensagem(UUID id, Mensagem mensagemModificada);
+
+    Mono<Boolean> excluirMensagem(UUID id);
+
+    Mono<Void> registrarGostei(UUID id);
+
+    Mono<Page<Mensagem>> listarMensagens(Pageable pageable);
+
+    Mono<PaginaCursor<Mensagem>> listarMensagens(String cursor, int tamanho);
+
+    Mono<PaginaSlice<Mensagem>> listarMensagensSemContagem(Pageable pageable, boolean incluirTotal);
+}
@@ -0,0 +1,128 @@
+package br.com.rsimplicio.api.service;
+
+import br.com.rsimplicio.api.exception.MensagemNotFoundException;
+import br.com.rsimplicio.api.id.GeradorId;
+import br.com.rsimplicio.api.model.CursorMensagem;
+import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.model.PaginaCursor;
+import br.com.rsimplicio.api.model.PaginaSlice;
+import br.com.rsimplicio.api.repository.MensagemRepositoryReativo;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@Profile("reactive")
+public class MensagemServiceReativoImpl implements MensagemServiceReativo {
+    private final MensagemRepositoryReativo mensagemRepository;
+    private final GeradorId geradorId;
+    private final TransactionalOperator transacao;
+
+    public MensagemServiceReativoImpl(MensagemRepositoryReativo mensagemRepository,
+                                      GeradorId geradorId,
+                                      TransactionalOperator transacao) {
+        this.mensagemRepository = mensagemRepository;
+        this.geradorId = geradorId;
+        this.transacao = transacao;
+    }
+
+    @Override
+    public Mono<Mensagem> registrarMensagem(Mensagem mensagem) {
+        var timestamp = LocalDateTime.now();
+        mensagem.setId(geradorId.gerar());
+        mensagem.setDataCriacao(timestamp);
+        mensagem.setDataAlteracao(timestamp);
+        return mensagemRepository.registrarMensagem(mensagem)
+                .thenReturn(mensagem);
+    }
+
+    @Override
+    public Mono<Mensagem> buscarMensagem(UUID id) {
+        return mensagemRepository.buscarMensagem(id)
+                .switchIfEmpty(Mono.error(() -> new MensagemNotFoundException("Mensagem não encontrada")));
+    }
+
+    @Override
+    public Mono<Mensagem> alterarMensagem(UUID id, Mensagem mensagemAtualizada) {
+        if (!id.equals(mensagemAtualizada.getId())) {
+            return Mono.error(new MensagemNotFoundException("Mensagem atualizada não apresenta o mesmo id"));
+        }
+        return mensagemRepository.alterarConteudo(id, mensagemAtualizada.getConteudo(), LocalDateTime.now())
+                .flatMap(alteradas -> alteradas == 0
+                        ? Mono.<Mensagem>error(new MensagemNotFoundException("Mensagem não encontrada"))
+                        : this.buscarMensagem(id))
+                // a releitura vê a própria alteração, não a de uma escrita concorrente
+                .as(transacao::transactional);
+    }
+
+    @Override
+    public Mono<Boolean> excluirMensagem(UUID id) {
+        return mensagemRepository.excluirMensagem(id)
+                .flatMap(excluidas -> excluidas == 0
+                        ? Mono.error(new MensagemNotFoundException("Mensagem não encontrada"))
+                        : Mono.just(true));
+    }
+
+    @Override
+    public Mono<Void> registrarGostei(UUID id) {
+        return mensagemRepository.incrementarGostei(id).then();
+    }
+
+    @Override
+    public Mono<Page<Mensagem>> listarMensagens(Pageable pageable) {
+        return Mono.zip(
+                        mensagemRepository.listarMensagens(pageable.getPageSize(), pageable.getOffset()).collectList(),
+                        mensagemRepository.contarMensagens())
+                .map(pagina -> new PageImpl<>(pagina.getT1(), pageable, pagina.getT2()));
+    }
+
+    @Override
+    public Mono<PaginaCursor<Mensagem>> listarMensagens(String cursor, int tamanho) {
+        if (tamanho < 1) {
+            return Mono.error(new IllegalArgumentException("Tamanho da página deve ser maior que zero"));
+        }
+        Flux<Mensagem> mensagens;
+        if (cursor == null || cursor.isBlank()) {
+            mensagens = mensagemRepository.listarMensagensIniciais(tamanho + 1);
+        } else {
+            mensagens = Mono.fromCallable(() -> CursorMensagem.decodificar(cursor))
+                    .flatMapMany(posicao -> mensagemRepository.listarMensagensApos(
+                            posicao.dataCriacao(), posicao.id(), tamanho + 1));
+        }
+        return mensagens.collectList().map(lista -> {
+            if (lista.size() <= tamanho) {
+                return new PaginaCursor<>(lista, null);
+            }
+            var pagina = lista.subList(0, tamanho);
+            var proximoCursor = CursorMensagem.de(pagina.get(tamanho - 1)).codificar();
+            return new PaginaCursor<>(pagina, proximoCursor);
+        });
+    }
+
+    @Override
+    public Mono<PaginaSlice<Mensagem>> listarMensagensSemContagem(Pageable pageable, boolean incluirTotal) {
+        var tamanho = pageable.getPageSize();
+        var mensagens = mensagemRepository.listarMensagens(tamanho + 1, pageable.getOffset()).collectList();
+        Mono<Long> total = incluirTotal ? mensagemRepository.contarMensagens() : Mono.just(-1L);
+        return Mono.zip(mensagens, total).map(resultado -> {
+            List<Mensagem> lista = resultado.getT1();
+            var ultima = lista.size() <= tamanho;
+            return new PaginaSlice<>(
+                    ultima ? lista : lista.subList(0, tamanho),
+                    pageable.getPageNumber(),
+                    tamanho,
+                    pageable.getPageNumber() == 0,
+                    ultima,
+                    incluirTotal ? resultado.getT2() : null);
+        });
+    }
+}
@@ -0,0 +1,120 @@
+package br.com.rsimplicio.api.service;
+
+import br.com.rsimplicio.api.exception.LoteInvalidoException;
+import br.com.rsimplicio.api.id.GeradorId;
+import br.com.rsimplicio.api.model.ItemLote;
+import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.model.MensagemEvento;
+import br.com.rsimplicio.api.repository.MensagemRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Valida e grava mensagens em blocos de {@code mensagens.lote.tamanho}, uma
+ * transação por bloco, para que o Hibernate agrupe os INSERTs em lotes JDBC
+ * ({@code hibernate.jdbc.batch_size}). Uma falha afeta apenas o próprio bloco.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class RegistradorLote {
+    private final MensagemRepository mensagemRepository;
+    private final GeradorId geradorId;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ContadorMensagens contadorMensagens;
+    private final ApplicationEventPublisher eventos;
+    private final int tamanhoBloco;
+    private final int limiteItens;
+
+    public RegistradorLote(MensagemRepository mensagemRepository,
+                           GeradorId geradorId,
+                           TransactionTemplate transactionTemplate,
+                           Validator validator,
+                           ContadorMensagens contadorMensagens,
+                           ApplicationEventPublisher eventos,
+                           @Value("${mensagens.lote.tamanho:500}") int tamanhoBloco,
+                           @Value("${mensagens.lote.limite-itens:10000}") int limiteItens) {
+        this.mensagemRepository = mensagemRepository;
+        this.geradorId = geradorId;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.contadorMensagens = contadorMensagens;
+        this.eventos = eventos;
+        this.tamanhoBloco = tamanhoBloco;
+        this.limiteItens = limiteItens;
+    }
+
+    public List<ItemLote> registrar(List<Mensagem> mensagens) {
+        if (mensagens.size() > limiteItens) {
+            throw new LoteInvalidoException("Lote excede o limite de " + limiteItens + " mensagens");
+        }
+        var itens = new ItemLote[mensagens.size()];
+        var bloco = new ArrayList<Mensagem>();
+        var indicesBloco = new ArrayList<Integer>();
+        for (int indice = 0; indice < mensagens.size(); indice++) {
+            var mensagem = mensagens.get(indice);
+            var erro = validar(mensagem);
+            if (erro != null) {
+                itens[indice] = ItemLote.rejeitada(indice, erro);
+                continue;
+            }
+            mensagem.setId(geradorId.gerar());
+            bloco.add(mensagem);
+            indicesBloco.add(indice);
+            if (bloco.size() == tamanhoBloco) {
+                gravar(bloco, indicesBloco, itens);
+                bloco = new ArrayList<>();
+                indicesBloco = new ArrayList<>();
+            }
+        }
+        if (!bloco.isEmpty()) {
+            gravar(bloco, indicesBloco, itens);
+        }
+        return Arrays.asList(itens);
+    }
+
+    private String validar(Mensagem mensagem) {
+        if (mensagem == null) {
+            return "mensagem não pode ser nula";
+        }
+        var violacoes = validator.validate(mensagem);
+        if (violacoes.isEmpty()) {
+            return null;
+        }
+        return violacoes.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void gravar(List<Mensagem> bloco, List<Integer> indices, ItemLote[] itens) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                mensagemRepository.saveAll(bloco);
+                mensagemRepository.flush();
+                // entregues aos ouvintes só depois do commit do bloco
+                bloco.forEach(mensagem -> eventos.publishEvent(MensagemEvento.registrada(mensagem)));
+            });
+            for (int i = 0; i < bloco.size(); i++) {
+                itens[indices.get(i)] = ItemLote.registrada(indices.get(i), bloco.get(i).getId());
+            }
+            contadorMensagens.adicionar(bloco.size());
+        } catch (DataAccessException | TransactionException e) {
+            log.error("Falha ao gravar bloco de {} mensagens", bloco.size(), e);
+            indices.forEach(indice -> itens[indice] = ItemLote.rejeitada(indice, "falha ao gravar mensagem"));
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package br.com.rsimplicio.api.service;
+
+import br.com.rsimplicio.api.config.CacheConfig;
+import br.com.rsimplicio.api.exception.FilaRegistroCheiaException;
+import br.com.rsimplicio.api.exception.MensagemInvalidaException;
+import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.model.MensagemEvento;
+import br.com.rsimplicio.api.repository.MensagemRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Registro assíncrono (write-behind), ativado por {@code mensagens.registro.assincrono}:
+ * a mensagem, já com id, entra em uma fila sem lock limitada a
+ * {@code mensagens.registro.capacidade-fila} e a requisição termina sem esperar o banco.
+ * {@code mensagens.registro.escritores} threads gravam a fila em blocos de
+ * {@code mensagens.lote.tamanho}, uma transação por bloco. A mensagem é validada
+ * antes de entrar na fila; se um bloco falhar mesmo assim, as mensagens dele são
+ * gravadas uma a uma e só as que falharem são descartadas.
+ *
+ * <p>Até a gravação, a mensagem é lida de {@link #buscarPendente}; alterações,
+ * exclusões e "gostei" só valem depois de gravada. No desligamento a fila é
+ * esvaziada antes de o pool de conexões fechar.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "mensagens.registro.assincrono", havingValue = "true")
+public class RegistroAssincrono {
+    public static final String METRICA_PENDENTES = "mensagens.registro.pendentes";
+    public static final String METRICA_DESCARTADAS = "mensagens.registro.descartadas";
+
+    private final MensagemRepository mensagemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ContadorMensagens contadorMensagens;
+    private final ApplicationEventPublisher eventos;
+    private final CacheManager cacheManager;
+    private final Validator validator;
+    private final int capacidade;
+    private final int escritores;
+    private final int tamanhoBloco;
+    private final long intervaloNanos;
+    private final Counter descartadas;
+    private final Queue<Mensagem> fila = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger tamanhoFila = new AtomicInteger();
+    private final ConcurrentHashMap<UUID, Mensagem> pendentes = new ConcurrentHashMap<>();
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean encerrando;
+
+    public RegistroAssincrono(MensagemRepository mensagemRepository,
+                              TransactionTemplate transactionTemplate,
+                              ContadorMensagens contadorMensagens,
+                              ApplicationEventPublisher eventos,
+                              CacheManager cacheManager,
+                              Validator validator,
+                              MeterRegistry meterRegistry,
+                              @Value("${mensagens.registro.capacidade-fila:10000}") int capacidade,
+                              @Value("${mensagens.registro.escritores:2}") int escritores,
+                              @Value("${mensagens.lote.tamanho:500}") int tamanhoBloco,
+                              @Value("${mensagens.registro.intervalo-espera:10ms}") Duration intervaloEspera) {
+        this.mensagemRepository = mensagemRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.contadorMensagens = contadorMensagens;
+        this.eventos = eventos;
+        this.cacheManager = cacheManager;
+        this.validator = validator;
+        this.capacidade = capacidade;
+        this.escritores = escritores;
+        this.tamanhoBloco = tamanhoBloco;
+        this.intervaloNanos = intervaloEspera.toNanos();
+        this.descartadas = Counter.builder(METRICA_DESCARTADAS).register(meterRegistry);
+        meterRegistry.gauge(METRICA_PENDENTES, pendentes, ConcurrentHashMap::size);
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        var fabrica = new CustomizableThreadFactory("registro-mensagens-");
+        fabrica.setDaemon(true);
+        for (int i = 0; i < escritores; i++) {
+            var thread = fabrica.newThread(this::escrever);
+            threads.add(thread);
+            thread.start();
+        }
+    }
+
+    /**
+     * Enfileira a mensagem (com id já atribuído) ou falha, sem esperar, se a fila estiver cheia.
+     * A validação acontece aqui: depois do 202 o cliente não tem como saber de uma rejeição.
+     */
+    public void aceitar(Mensagem mensagem) {
+        var violacoes = validator.validate(mensagem);
+        if (!violacoes.isEmpty()) {
+            throw new MensagemInvalidaException(violacoes.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        if (encerrando) {
+            throw new FilaRegistroCheiaException("Registro de mensagens encerrado");
+        }
+        if (tamanhoFila.incrementAndGet() > capacidade) {
+            tamanhoFila.decrementAndGet();
+            throw new FilaRegistroCheiaException("Fila de registro cheia");
+        }
+        var agora = LocalDateTime.now();
+        mensagem.setDataCriacao(agora);
+        mensagem.setDataAlteracao(agora);
+        pendentes.put(mensagem.getId(), mensagem);
+        fila.offer(mensagem);
+    }
+
+    public Optional<Mensagem> buscarPendente(UUID id) {
+        return Optional.ofNullable(pendentes.get(id));
+    }
+
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        encerrando = true;
+        for (var thread : threads) {
+            thread.join(Duration.ofSeconds(30).toMillis());
+        }
+        if (!fila.isEmpty()) {
+            log.error("Registro encerrado com {} mensagens não gravadas", fila.size());
+        }
+    }
+
+    private void escrever() {
+        var bloco = new ArrayList<Mensagem>(tamanhoBloco);
+        while (true) {
+            Mensagem mensagem;
+            while (bloco.size() < tamanhoBloco && (mensagem = fila.poll()) != null) {
+                bloco.add(mensagem);
+            }
+            if (bloco.isEmpty()) {
+                // só termina com a fila vazia: o que foi aceito antes do desligamento é gravado
+                if (encerrando) {
+                    return;
+                }
+                LockSupport.parkNanos(intervaloNanos);
+                continue;
+            }
+            tamanhoFila.addAndGet(-bloco.size());
+            try {
+                gravar(bloco);
+            } catch (RuntimeException e) {
+                // a thread não pode morrer: sem escritores a fila enche e todo POST recebe 429
+                log.error("Falha inesperada no registro de {} mensagens", bloco.size(), e);
+            } finally {
+                bloco.clear();
+            }
+        }
+    }
+
+    void gravar(List<Mensagem> bloco) {
+        try {
+            if (gravarBloco(bloco)) {
+                return;
+            }
+            var falhas = bloco.size() == 1
+                    ? bloco
+                    : bloco.stream().filter(mensagem -> !gravarBloco(List.of(mensagem))).toList();
+            descartar(falhas);
+        } finally {
+            bloco.forEach(mensagem -> pendentes.remove(mensagem.getId()));
+        }
+    }
+
+    private boolean gravarBloco(List<Mensagem> mensagens) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                mensagemRepository.saveAll(mensagens);
+                mensagemRepository.flush();
+                mensagens.forEach(mensagem -> eventos.publishEvent(MensagemEvento.registrada(mensagem)));
+            });
+            contadorMensagens.adicionar(mensagens.size());
+            return true;
+        } catch (RuntimeException e) {
+            // inclui ConstraintViolationException, que não é traduzida para DataAccessException
+            log.error("Falha ao gravar bloco de {} mensagens aceitas", mensagens.size(), e);
+            return false;
+        }
+    }
+
+    private void descartar(List<Mensagem> mensagens) {
+        descartadas.increment(mensagens.size());
+        // a mensagem pendente pode ter ido para o cache em uma leitura
+        var cache = cacheManager.getCache(CacheConfig.CACHE_MENSAGENS);
+        if (cache != null) {
+            mensagens.forEach(mensagem -> cache.evict(mensagem.getId()));
+        }
+    }
+}
@@ -0,0 +1,9 @@
+CREATE TABLE mensagem (
+    id             UUID         NOT NULL,
+    usuario        VARCHAR(255) NOT NULL,
+    conteudo       VARCHAR(255) NOT NULL,
+    data_criacao   TIMESTAMP(6),
+    data_alteracao TIMESTAMP(6),
+    gostei         INTEGER      NOT NULL DEFAULT 0,
+    CONSTRAINT pk_mensagem PRIMARY KEY (id)
+);
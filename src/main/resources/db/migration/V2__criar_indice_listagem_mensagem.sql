@@ -0,0 +1,3 @@
+-- atende ORDER BY data_criacao DESC (listagem paginada) e o keyset
+-- (data_criacao, id) < (?, ?) da listagem por cursor sem ordenar a tabela
+CREATE INDEX idx_mensagem_data_criacao_id ON mensagem (data_criacao DESC, id DESC);
@@ -0,0 +1,2 @@
+-- versão para controle de concorrência otimista (@Version) e ETag das respostas
+ALTER TABLE mensagem ADD COLUMN versao BIGINT NOT NULL DEFAULT 0;
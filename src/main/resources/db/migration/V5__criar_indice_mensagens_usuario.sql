@@ -0,0 +1,4 @@
+-- linha do tempo por usuário (GET /usuarios/{usuario}/mensagens): igualdade em usuario
+-- seguida do mesmo keyset (data_criacao, id) da listagem por cursor
+-- (V4 é a migração do Postgres em db/vendor/postgresql)
+CREATE INDEX idx_mensagem_usuario_data_criacao_id ON mensagem (usuario, data_criacao DESC, id DESC);
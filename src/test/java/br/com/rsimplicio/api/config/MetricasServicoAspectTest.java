@@ -0,0 +1,89 @@
+package br.com.rsimplicio.api.config;
+
+import br.com.rsimplicio.api.exception.MensagemNotFoundException;
+import br.com.rsimplicio.api.service.MensagemService;
+import br.com.rsimplicio.api.utils.MensagemHelper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+class MetricasServicoAspectTest {
+
+    @Mock
+    private MensagemService mensagemService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MensagemService mensagemServiceMedido;
+
+    AutoCloseable mock;
+
+    @BeforeEach
+    void setup() {
+        mock = MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        var fabrica = new AspectJProxyFactory(mensagemService);
+        fabrica.addAspect(new MetricasServicoAspect(meterRegistry));
+        mensagemServiceMedido = fabrica.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Test
+    void deveRegistrarTempo_ComOutcomeSuccess() {
+        // Arrange
+        var id = UUID.fromString("2b18bacd-10bf-4017-bf75-1325fb249e58");
+        when(mensagemService.buscarMensagem(id)).thenReturn(MensagemHelper.gerarMensagem());
+        // Act
+        mensagemServiceMedido.buscarMensagem(id);
+        // Assert
+        var timer = meterRegistry.get(MetricasServicoAspect.METRICA)
+                .tag("metodo", "buscarMensagem")
+                .tag("outcome", "success")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void deveRegistrarTempo_ComOutcomeNotFound_QuandoMensagemNaoEncontrada() {
+        // Arrange
+        var id = UUID.fromString("d2b35d8f-2e8e-4768-9aa9-42fdb4a015f7");
+        when(mensagemService.buscarMensagem(id))
+                .thenThrow(new MensagemNotFoundException("Mensagem não encontrada"));
+        // Act & Assert
+        assertThatThrownBy(() -> mensagemServiceMedido.buscarMensagem(id))
+                .isInstanceOf(MensagemNotFoundException.class);
+        assertThat(meterRegistry.get(MetricasServicoAspect.METRICA)
+                .tag("outcome", "not-found")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void deveRegistrarTempo_ComOutcomeError_QuandoFalhaInesperada() {
+        // Arrange
+        var id = UUID.fromString("d2b35d8f-2e8e-4768-9aa9-42fdb4a015f7");
+        when(mensagemService.excluirMensagem(id)).thenThrow(new IllegalStateException("falha"));
+        // Act & Assert
+        assertThatThrownBy(() -> mensagemServiceMedido.excluirMensagem(id))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get(MetricasServicoAspect.METRICA)
+                .tag("metodo", "excluirMensagem")
+                .tag("outcome", "error")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+}
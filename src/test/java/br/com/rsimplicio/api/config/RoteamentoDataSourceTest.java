@@ -0,0 +1,191 @@
+package br.com.rsimplicio.api.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoteamentoDataSourceTest {
+
+    private DataSource primario;
+    private DataSource replica;
+
+    @BeforeEach
+    void setup() {
+        primario = bancoH2("primario");
+        replica = bancoH2("replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void deveLerDaReplica_EmTransacaoSomenteLeitura() {
+        var jdbc = new Roteamento(primario, replica, Duration.ZERO);
+
+        assertThat(jdbc.origem(true)).isEqualTo("replica");
+        assertThat(jdbc.origem(false)).isEqualTo("primario");
+        assertThat(jdbc.origemSemTransacao()).isEqualTo("primario");
+    }
+
+    @Test
+    void deveLerDoPrimario_QuandoReplicaEstiverIndisponivel() {
+        var replicaIndisponivel = new DelegatingDataSource(replica) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                throw new SQLException("réplica fora do ar");
+            }
+        };
+        var jdbc = new Roteamento(primario, replicaIndisponivel, Duration.ZERO);
+
+        assertThat(jdbc.origem(true)).isEqualTo("primario");
+        assertThat(jdbc.origem(true)).isEqualTo("primario");
+    }
+
+    @Test
+    void deveLerDoPrimario_LogoDepoisDeUmaEscritaNaMesmaRequisicao() {
+        var jdbc = new Roteamento(primario, replica, Duration.ofMinutes(1));
+        var resposta = requisicao(new MockHttpServletRequest());
+
+        jdbc.origem(false);
+
+        assertThat(jdbc.origem(true)).isEqualTo("primario");
+        assertThat(resposta.getCookie(RoteamentoDataSource.COOKIE_ULTIMA_ESCRITA)).isNotNull();
+    }
+
+    @Test
+    void deveLerDoPrimario_QuandoClienteEnviarCookieDeEscritaRecente() {
+        var jdbc = new Roteamento(primario, replica, Duration.ofMinutes(1));
+        var cookie = requisicaoComEscrita(jdbc);
+        var proximaRequisicao = new MockHttpServletRequest();
+        proximaRequisicao.setCookies(cookie);
+
+        requisicao(proximaRequisicao);
+
+        assertThat(jdbc.origem(true)).isEqualTo("primario");
+    }
+
+    @Test
+    void deveLerDaReplica_QuandoEscritaForDeOutroCliente() {
+        var jdbc = new Roteamento(primario, replica, Duration.ofMinutes(1));
+        requisicaoComEscrita(jdbc);
+
+        requisicao(new MockHttpServletRequest());
+
+        assertThat(jdbc.origem(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void deveLerDaReplica_QuandoCookieDeEscritaEstiverForaDaJanela() {
+        var jdbc = new Roteamento(primario, replica, Duration.ofMinutes(1));
+        var proximaRequisicao = new MockHttpServletRequest();
+        var antiga = System.currentTimeMillis() - Duration.ofMinutes(2).toMillis();
+        proximaRequisicao.setCookies(new Cookie(RoteamentoDataSource.COOKIE_ULTIMA_ESCRITA, Long.toString(antiga)));
+
+        requisicao(proximaRequisicao);
+
+        assertThat(jdbc.origem(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void deveLerDoPrimario_EmMetodoComLeituraPrimaria() {
+        var jdbc = new Roteamento(primario, replica, Duration.ZERO);
+        var fabrica = new AspectJProxyFactory(jdbc);
+        fabrica.addAspect(new LeituraPrimariaAspect());
+        Origem origemPrimaria = fabrica.getProxy();
+
+        assertThat(origemPrimaria.origemPrimaria()).isEqualTo("primario");
+        assertThat(jdbc.origem(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void deveLerDoPrimario_SoNoTrechoComLeituraPrimaria() {
+        var jdbc = new Roteamento(primario, replica, Duration.ZERO);
+
+        assertThat(jdbc.origemNoPrimario()).isEqualTo("primario");
+        assertThat(jdbc.origem(true)).isEqualTo("replica");
+    }
+
+    private static MockHttpServletResponse requisicao(MockHttpServletRequest request) {
+        var response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+
+    private static Cookie requisicaoComEscrita(Roteamento jdbc) {
+        var resposta = requisicao(new MockHttpServletRequest());
+        jdbc.origem(false);
+        RequestContextHolder.resetRequestAttributes();
+        return resposta.getCookie(RoteamentoDataSource.COOKIE_ULTIMA_ESCRITA);
+    }
+
+    private static DataSource bancoH2(String nome) {
+        var dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:roteamento-" + nome + ";DB_CLOSE_DELAY=-1", "sa", "");
+        var jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS origem (nome VARCHAR(20))");
+        jdbc.execute("DELETE FROM origem");
+        jdbc.update("INSERT INTO origem VALUES (?)", nome);
+        return dataSource;
+    }
+
+    /**
+     * Mesma montagem da {@link ReplicaLeituraConfig}, com um gerenciador de
+     * transações JDBC no lugar do JPA.
+     */
+    interface Origem {
+        String origemPrimaria();
+    }
+
+    private static class Roteamento implements Origem {
+        private final JdbcTemplate jdbc;
+        private final TransactionTemplate transacao;
+
+        Roteamento(DataSource primario, DataSource replica, Duration leituraPrimariaAposEscrita) {
+            var dataSource = new LazyConnectionDataSourceProxy(
+                    new RoteamentoDataSource(primario, replica, leituraPrimariaAposEscrita, Duration.ofMinutes(1)));
+            this.jdbc = new JdbcTemplate(dataSource);
+            this.transacao = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        }
+
+        String origem(boolean somenteLeitura) {
+            transacao.setReadOnly(somenteLeitura);
+            return transacao.execute(status -> origemSemTransacao());
+        }
+
+        String origemNoPrimario() {
+            transacao.setReadOnly(true);
+            return transacao.execute(status -> LeituraPrimariaAspect.noPrimario(this::origemSemTransacao));
+        }
+
+        String origemSemTransacao() {
+            return jdbc.queryForObject("SELECT nome FROM origem", String.class);
+        }
+
+        @Override
+        @LeituraPrimaria
+        public String origemPrimaria() {
+            return origem(true);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.rsimplicio.api.controller;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Executa os mesmos cenários de {@link MensagemControllerIT} contra a variante
+ * WebFlux + R2DBC. O Flyway (JDBC) e o R2DBC apontam para o mesmo H2 em memória.
+ * Esses cenários só cobrem as rotas que as duas variantes têm (cadastro, busca,
+ * alteração, exclusão e listagem); as exclusivas da versão servlet estão listadas
+ * em {@link MensagemControllerReativo}.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.r2dbc.url=r2dbc:h2:mem:///reativo;DB_CLOSE_DELAY=-1",
+                "spring.r2dbc.username=root",
+                "spring.r2dbc.password=toor",
+                "spring.flyway.url=jdbc:h2:mem:reativo;DB_CLOSE_DELAY=-1",
+                "spring.flyway.user=root",
+                "spring.flyway.password=toor"
+        })
+@ActiveProfiles({"test", "reactive"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class MensagemControllerReativoIT extends MensagemControllerIT {
+}
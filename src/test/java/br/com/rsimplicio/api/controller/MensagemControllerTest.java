@@ -1,7 +1,17 @@
 package br.com.rsimplicio.api.controller;
 
+import br.com.rsimplicio.api.exception.CursorInvalidoException;
+import br.com.rsimplicio.api.exception.FilaRegistroCheiaException;
+import br.com.rsimplicio.api.exception.LoteInvalidoException;
+import br.com.rsimplicio.api.exception.MensagemInvalidaException;
+import br.com.rsimplicio.api.model.ItemLote;
 import br.com.rsimplicio.api.exception.MensagemNotFoundException;
+import br.com.rsimplicio.api.exception.VersaoDivergenteException;
 import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.model.MensagemResumo;
+import br.com.rsimplicio.api.model.PaginaCursor;
+import br.com.rsimplicio.api.model.PaginaSlice;
+import br.com.rsimplicio.api.model.ResultadoLote;
 import br.com.rsimplicio.api.service.MensagemService;
 import br.com.rsimplicio.api.utils.MensagemHelper;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -15,16 +25,23 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.empty;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -84,6 +101,87 @@ public class MensagemControllerTest {
             ).andExpect(status().isUnsupportedMediaType());
             verify(mensagemService, never()).registrarMensagem(any(Mensagem.class));
         }
+
+        @Test
+        void devePermitirRegistrarMensagem_Assincronamente() throws Exception {
+            // Arrange
+            var mensagem = MensagemHelper.gerarMensagem();
+            when(mensagemService.registrarMensagem(any(Mensagem.class)))
+                    .thenAnswer(i -> i.getArgument(0));
+            when(mensagemService.registroAssincrono()).thenReturn(true);
+            // Act & Assert
+            mockMvc.perform(post("/mensagens")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(asJsonString(mensagem))
+            ).andExpect(status().isAccepted());
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoRegistrarMensagem_FilaCheia() throws Exception {
+            // Arrange
+            var mensagemDaExcecao = "Fila de registro cheia";
+            when(mensagemService.registrarMensagem(any(Mensagem.class)))
+                    .thenThrow(new FilaRegistroCheiaException(mensagemDaExcecao));
+            // Act & Assert
+            mockMvc.perform(post("/mensagens")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(asJsonString(MensagemHelper.gerarMensagem()))
+            ).andExpect(status().isTooManyRequests())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                    .andExpect(content().string(mensagemDaExcecao));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoRegistrarMensagem_Invalida() throws Exception {
+            // Arrange
+            var mensagemDaExcecao = "conteúdo não pode estar vazio";
+            when(mensagemService.registrarMensagem(any(Mensagem.class)))
+                    .thenThrow(new MensagemInvalidaException(mensagemDaExcecao));
+            // Act & Assert
+            mockMvc.perform(post("/mensagens")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(asJsonString(MensagemHelper.gerarMensagem()))
+            ).andExpect(status().isBadRequest())
+                    .andExpect(content().string(mensagemDaExcecao));
+        }
+    }
+
+    @Nested
+    class RegistrarMensagens {
+        @Test
+        void devePermitirRegistrarMensagensEmLote() throws Exception {
+            // Arrange
+            var mensagens = Arrays.asList(MensagemHelper.gerarMensagem(), MensagemHelper.gerarMensagem());
+            var id = UUID.fromString("9d8c7b6a-5f4e-4d3c-8b2a-1f0e9d8c7b6a");
+            when(mensagemService.registrarMensagens(anyList()))
+                    .thenReturn(ResultadoLote.de(Arrays.asList(
+                            ItemLote.registrada(0, id),
+                            ItemLote.rejeitada(1, "falha ao gravar mensagem"))));
+            // Act & Assert
+            mockMvc.perform(post("/mensagens/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(asJsonString(mensagens)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.registradas").value(1))
+                    .andExpect(jsonPath("$.rejeitadas").value(1))
+                    .andExpect(jsonPath("$.itens[0].id").value(id.toString()))
+                    .andExpect(jsonPath("$.itens[1].status").value("REJEITADA"));
+            verify(mensagemService, times(1)).registrarMensagens(anyList());
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoRegistrarMensagens_LoteExcedeLimite() throws Exception {
+            // Arrange
+            var mensagemDaExcecao = "Lote excede o limite de 10000 mensagens";
+            when(mensagemService.registrarMensagens(anyList()))
+                    .thenThrow(new LoteInvalidoException(mensagemDaExcecao));
+            // Act & Assert
+            mockMvc.perform(post("/mensagens/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(asJsonString(Collections.singletonList(MensagemHelper.gerarMensagem()))))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().string(mensagemDaExcecao));
+        }
     }
 
     @Nested
@@ -101,6 +199,33 @@ public class MensagemControllerTest {
             verify(mensagemService, times(1)).buscarMensagem(any(UUID.class));
         }
 
+        @Test
+        void deveApresentarETagDaVersao_QuandoBuscarMensagem() throws Exception {
+            // Arrange
+            var id = UUID.fromString("2b18bacd-10bf-4017-bf75-1325fb249e58");
+            var mensagem = MensagemHelper.gerarMensagem();
+            mensagem.setVersao(3);
+            when(mensagemService.buscarMensagem(id)).thenReturn(mensagem);
+            // Act & Assert
+            mockMvc.perform(get("/mensagens/{id}", id))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+        }
+
+        @Test
+        void deveResponderNaoModificado_QuandoBuscarMensagem_IfNoneMatchIgualAoETag() throws Exception {
+            // Arrange
+            var id = UUID.fromString("2b18bacd-10bf-4017-bf75-1325fb249e58");
+            var mensagem = MensagemHelper.gerarMensagem();
+            mensagem.setVersao(3);
+            when(mensagemService.buscarMensagem(id)).thenReturn(mensagem);
+            // Act & Assert
+            mockMvc.perform(get("/mensagens/{id}", id)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+        }
+
         @Test
         void deveGerarExcecao_QuandoBuscarMensagem_IdNaoEncontrado() throws Exception {
             // Arrange
@@ -123,14 +248,14 @@ public class MensagemControllerTest {
             var mensagem = MensagemHelper.gerarMensagem();
             mensagem.setId(id);
 
-            when(mensagemService.alterarMensagem(id, mensagem))
+            when(mensagemService.alterarMensagem(id, mensagem, null))
                     .thenAnswer(i -> i.getArgument(1));
 
             mockMvc.perform(put("/mensagens/{id}", id)
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(asJsonString(mensagem)))
                     .andExpect(status().isAccepted());
-            verify(mensagemService, times(1)).alterarMensagem(id, mensagem);
+            verify(mensagemService, times(1)).alterarMensagem(id, mensagem, null);
         }
 
         @Test
@@ -147,7 +272,7 @@ public class MensagemControllerTest {
                     .contentType(MediaType.APPLICATION_XML)
                     .content(xmlPayload)
             ).andExpect(status().isUnsupportedMediaType());
-            verify(mensagemService, never()).alterarMensagem(any(UUID.class), any(Mensagem.class));
+            verify(mensagemService, never()).alterarMensagem(any(UUID.class), any(Mensagem.class), any());
         }
 
         @Test
@@ -158,7 +283,7 @@ public class MensagemControllerTest {
             mensagem.setId(id);
             var conteudoDaExcecao = "Mensagem não encontrada";
 
-            when(mensagemService.alterarMensagem(id, mensagem))
+            when(mensagemService.alterarMensagem(id, mensagem, null))
                     .thenThrow(new MensagemNotFoundException(conteudoDaExcecao));
 
             mockMvc.perform(put("/mensagens/{id}", id)
@@ -167,7 +292,7 @@ public class MensagemControllerTest {
                     .andExpect(status().isBadRequest())
                     .andExpect(content().string(conteudoDaExcecao));
             verify(mensagemService, times(1))
-                    .alterarMensagem(any(UUID.class), any(Mensagem.class));
+                    .alterarMensagem(any(UUID.class), any(Mensagem.class), any());
         }
 
         @Test
@@ -178,7 +303,7 @@ public class MensagemControllerTest {
             mensagem.setId(UUID.fromString("13735fd3-6584-46a0-86b8-004bc8257227"));
             var conteudoDaExcecao = "mensagem atualizada não apresenta o ID correto";
 
-            when(mensagemService.alterarMensagem(id, mensagem))
+            when(mensagemService.alterarMensagem(id, mensagem, null))
                     .thenThrow(new MensagemNotFoundException(conteudoDaExcecao));
 
             mockMvc.perform(put("/mensagens/{id}", id)
@@ -187,7 +312,59 @@ public class MensagemControllerTest {
                     .andExpect(status().isBadRequest())
                     .andExpect(content().string(conteudoDaExcecao));
             verify(mensagemService, times(1))
-                    .alterarMensagem(any(UUID.class), any(Mensagem.class));
+                    .alterarMensagem(any(UUID.class), any(Mensagem.class), any());
+        }
+    }
+
+    @Nested
+    class AlterarMensagemComIfMatch {
+        @Test
+        void devePermitirAlterarMensagem_QuandoIfMatchIgualAVersao() throws Exception {
+            // Arrange
+            var id = UUID.fromString("2692fbe2-0b93-4da8-8fde-bb53e0ec57f5");
+            var mensagem = MensagemHelper.gerarMensagem();
+            mensagem.setId(id);
+            when(mensagemService.alterarMensagem(id, mensagem, 4L))
+                    .thenReturn(mensagem.toBuilder().versao(5).build());
+            // Act & Assert
+            mockMvc.perform(put("/mensagens/{id}", id)
+                            .header(HttpHeaders.IF_MATCH, "\"4\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(asJsonString(mensagem)))
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"5\""));
+            verify(mensagemService, times(1)).alterarMensagem(id, mensagem, 4L);
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoAlterarMensagem_VersaoDivergente() throws Exception {
+            // Arrange
+            var id = UUID.fromString("2692fbe2-0b93-4da8-8fde-bb53e0ec57f5");
+            var mensagem = MensagemHelper.gerarMensagem();
+            mensagem.setId(id);
+            var conteudoDaExcecao = "Mensagem foi alterada por outra requisição";
+            when(mensagemService.alterarMensagem(id, mensagem, 4L))
+                    .thenThrow(new VersaoDivergenteException(conteudoDaExcecao));
+            // Act & Assert
+            mockMvc.perform(put("/mensagens/{id}", id)
+                            .header(HttpHeaders.IF_MATCH, "\"4\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(asJsonString(mensagem)))
+                    .andExpect(status().isPreconditionFailed())
+                    .andExpect(content().string(conteudoDaExcecao));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoExcluirMensagem_IfMatchFraco() throws Exception {
+            // Arrange
+            var id = UUID.fromString("b9dc86ce-386d-4e99-9074-9b529e809df7");
+            when(mensagemService.excluirMensagem(id, -1L))
+                    .thenThrow(new VersaoDivergenteException("Mensagem foi alterada por outra requisição"));
+            // Act & Assert
+            mockMvc.perform(delete("/mensagens/{id}", id)
+                            .header(HttpHeaders.IF_MATCH, "W/\"4\""))
+                    .andExpect(status().isPreconditionFailed());
+            verify(mensagemService, times(1)).excluirMensagem(id, -1L);
         }
     }
 
@@ -197,13 +374,13 @@ public class MensagemControllerTest {
         void devePermitirExcluirMensagem() throws Exception {
             var id = UUID.fromString("b9dc86ce-386d-4e99-9074-9b529e809df7");
 
-            when(mensagemService.excluirMensagem(id)).thenReturn(true);
+            when(mensagemService.excluirMensagem(id, null)).thenReturn(true);
 
             mockMvc.perform(delete("/mensagens/{id}", id))
                     .andExpect(status().isOk())
                     .andExpect(content().string("mensagem excluida com sucesso"));
 
-            verify(mensagemService, times(1)).excluirMensagem(id);
+            verify(mensagemService, times(1)).excluirMensagem(id, null);
         }
 
         @Test
@@ -211,13 +388,26 @@ public class MensagemControllerTest {
             var id = UUID.fromString("de4b8591-176b-4d87-ac6a-3ea2c3115d0d");
             var mensagemDaExcecao = "Mensagem não encontrada";
 
-            when(mensagemService.excluirMensagem(id)).thenThrow(new MensagemNotFoundException(mensagemDaExcecao));
+            when(mensagemService.excluirMensagem(id, null)).thenThrow(new MensagemNotFoundException(mensagemDaExcecao));
 
             mockMvc.perform(delete("/mensagens/{id}", id))
                     .andExpect(status().isBadRequest())
                     .andExpect(content().string(mensagemDaExcecao));
 
-            verify(mensagemService, times(1)).excluirMensagem(id);
+            verify(mensagemService, times(1)).excluirMensagem(id, null);
+        }
+    }
+
+    @Nested
+    class RegistrarGostei {
+        @Test
+        void devePermitirRegistrarGostei() throws Exception {
+            var id = UUID.fromString("5b1f0d3e-2c4a-4e6b-8d9f-7a1c2e3b4d5f");
+
+            mockMvc.perform(post("/mensagens/{id}/gostei", id))
+                    .andExpect(status().isAccepted());
+
+            verify(mensagemService, times(1)).registrarGostei(id);
         }
     }
 
@@ -228,7 +418,7 @@ public class MensagemControllerTest {
         void devePermitirListarMensagens() throws Exception {
             var mensagem = MensagemHelper.gerarMensagem();
             var page = new PageImpl<>(Collections.singletonList(
-                mensagem
+                MensagemResumo.de(mensagem)
             ));
 
             when(mensagemService.listarMensagens(any(Pageable.class)))
@@ -241,6 +431,8 @@ public class MensagemControllerTest {
 //                    .andDo(print())
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.content", not(empty())))
+            .andExpect(jsonPath("$.content[0].usuario").value(mensagem.getUsuario()))
+            .andExpect(jsonPath("$.content[0].versao").doesNotExist())
             .andExpect(jsonPath("$.totalPages").value(1))
             .andExpect(jsonPath("$.totalElements").value(1));
         }
@@ -249,7 +441,7 @@ public class MensagemControllerTest {
         void devePermitirListarMensagens_QuandoNaoInformadoPaginacao() throws Exception {
             var mensagem = MensagemHelper.gerarMensagem();
             var page = new PageImpl<>(Collections.singletonList(
-                    mensagem
+                    MensagemResumo.de(mensagem)
             ));
 
             when(mensagemService.listarMensagens(any(Pageable.class)))
@@ -262,6 +454,179 @@ public class MensagemControllerTest {
                     .andExpect(jsonPath("$.totalElements").value(1));
         }
 
+        @Test
+        void devePermitirListarMensagens_QuandoSolicitadoEnvelopeCompacto() throws Exception {
+            var mensagem = MensagemHelper.gerarMensagem();
+            var page = new PageImpl<>(Collections.singletonList(
+                    MensagemResumo.de(mensagem)
+            ));
+
+            when(mensagemService.listarMensagens(any(Pageable.class)))
+                    .thenReturn(page);
+
+            mockMvc.perform(get("/mensagens")
+                    .param("compacto", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", not(empty())))
+                    .andExpect(jsonPath("$.totalPages").value(1))
+                    .andExpect(jsonPath("$.totalElements").value(1))
+                    .andExpect(jsonPath("$.pageable").doesNotExist())
+                    .andExpect(jsonPath("$.sort").doesNotExist());
+        }
+
+        @Test
+        void deveResponderNaoModificado_QuandoListarMensagens_PaginaInalterada() throws Exception {
+            var mensagem = MensagemHelper.gerarMensagem();
+            mensagem.setId(UUID.fromString("2b18bacd-10bf-4017-bf75-1325fb249e58"));
+            var page = new PageImpl<>(Collections.singletonList(
+                    MensagemResumo.de(mensagem)
+            ));
+
+            when(mensagemService.listarMensagens(any(Pageable.class)))
+                    .thenReturn(page);
+
+            var etag = mockMvc.perform(get("/mensagens"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get("/mensagens")
+                    .header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+
+            mensagem.setVersao(1);
+            when(mensagemService.listarMensagens(any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(Collections.singletonList(MensagemResumo.de(mensagem))));
+            mockMvc.perform(get("/mensagens")
+                    .header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk());
+        }
+
+    }
+
+    @Nested
+    class ListarMensagensSemContagem {
+
+        @Test
+        void devePermitirListarMensagensSemContagem() throws Exception {
+            var mensagem = MensagemHelper.gerarMensagem();
+            var pagina = new PaginaSlice<>(Collections.singletonList(MensagemResumo.de(mensagem)), 0, 10, true, true, 1L);
+
+            when(mensagemService.listarMensagensSemContagem(any(Pageable.class), anyBoolean()))
+                    .thenReturn(pagina);
+
+            mockMvc.perform(get("/mensagens/slice")
+                    .param("page", "0")
+                    .param("size", "10")
+                    .param("total", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", not(empty())))
+                    .andExpect(jsonPath("$.last").value(true))
+                    .andExpect(jsonPath("$.approximateTotal").value(1))
+                    .andExpect(jsonPath("$.totalElements").doesNotExist());
+            verify(mensagemService, times(1)).listarMensagensSemContagem(any(Pageable.class), eq(true));
+        }
+    }
+
+    @Nested
+    class ListarMensagensPorCursor {
+
+        @Test
+        void devePermitirListarMensagensPorCursor() throws Exception {
+            var mensagem = MensagemHelper.gerarMensagem();
+            var pagina = new PaginaCursor<>(Collections.singletonList(mensagem), "proximo");
+
+            when(mensagemService.listarMensagens(isNull(), anyInt()))
+                    .thenReturn(pagina);
+
+            mockMvc.perform(get("/mensagens/cursor")
+                    .param("size", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", not(empty())))
+                    .andExpect(jsonPath("$.nextCursor").value("proximo"));
+            verify(mensagemService, times(1)).listarMensagens(null, 1);
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoListarMensagensPorCursor_CursorInvalido() throws Exception {
+            var mensagemDaExcecao = "Cursor inválido";
+
+            when(mensagemService.listarMensagens("invalido", 10))
+                    .thenThrow(new CursorInvalidoException(mensagemDaExcecao));
+
+            mockMvc.perform(get("/mensagens/cursor")
+                    .param("after", "invalido"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().string(mensagemDaExcecao));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoListarMensagensPorCursor_TamanhoInvalido() throws Exception {
+            var mensagemDaExcecao = "Tamanho da página deve ser maior que zero";
+
+            when(mensagemService.listarMensagens(isNull(), eq(0)))
+                    .thenThrow(new IllegalArgumentException(mensagemDaExcecao));
+
+            mockMvc.perform(get("/mensagens/cursor")
+                    .param("size", "0"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().string(mensagemDaExcecao));
+        }
+
+        @Test
+        void deveLimitarTamanho_QuandoListarMensagensPorCursor() throws Exception {
+            when(mensagemService.listarMensagens(isNull(), anyInt()))
+                    .thenReturn(new PaginaCursor<>(Collections.emptyList(), null));
+
+            mockMvc.perform(get("/mensagens/cursor")
+                    .param("size", "100000"))
+                    .andExpect(status().isOk());
+            verify(mensagemService, times(1)).listarMensagens(null, MensagemController.TAMANHO_MAXIMO_PAGINA);
+        }
+    }
+
+    @Nested
+    class BuscarMensagens {
+
+        @Test
+        void devePermitirBuscarMensagens() throws Exception {
+            var mensagem = MensagemHelper.gerarMensagem();
+            var pagina = new PaginaCursor<>(Collections.singletonList(mensagem), "proximo");
+
+            when(mensagemService.buscarMensagens("conteudo", null, 10))
+                    .thenReturn(pagina);
+
+            mockMvc.perform(get("/mensagens/search")
+                    .param("q", "conteudo"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", not(empty())))
+                    .andExpect(jsonPath("$.nextCursor").value("proximo"));
+            verify(mensagemService, times(1)).buscarMensagens("conteudo", null, 10);
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarMensagens_ConsultaVazia() throws Exception {
+            var mensagemDaExcecao = "Consulta não pode ser vazia";
+
+            when(mensagemService.buscarMensagens("", null, 10))
+                    .thenThrow(new IllegalArgumentException(mensagemDaExcecao));
+
+            mockMvc.perform(get("/mensagens/search"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().string(mensagemDaExcecao));
+        }
+
+        @Test
+        void deveLimitarTamanho_QuandoBuscarMensagens() throws Exception {
+            when(mensagemService.buscarMensagens(eq("conteudo"), isNull(), anyInt()))
+                    .thenReturn(new PaginaCursor<>(Collections.emptyList(), null));
+
+            mockMvc.perform(get("/mensagens/search")
+                    .param("q", "conteudo")
+                    .param("size", String.valueOf(Integer.MAX_VALUE)))
+                    .andExpect(status().isOk());
+            verify(mensagemService, times(1))
+                    .buscarMensagens("conteudo", null, MensagemController.TAMANHO_MAXIMO_PAGINA);
+        }
     }
 
     public static String asJsonString(final Object object) throws JsonProcessingException {
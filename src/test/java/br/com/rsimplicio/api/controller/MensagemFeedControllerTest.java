@@ -0,0 +1,48 @@
+package br.com.rsimplicio.api.controller;
+
+import br.com.rsimplicio.api.service.FeedMensagens;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class MensagemFeedControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private FeedMensagens feedMensagens;
+
+    AutoCloseable mock;
+
+    @BeforeEach
+    void setup() {
+        mock = MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(new MensagemFeedController(feedMensagens)).build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Test
+    void devePermitirAcompanharMensagens_RetomandoDoLastEventId() throws Exception {
+        when(feedMensagens.assinar("42")).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/mensagens/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header(MensagemFeedController.LAST_EVENT_ID, "42"))
+                .andExpect(request().asyncStarted());
+        verify(feedMensagens, times(1)).assinar("42");
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.rsimplicio.api.controller;
+
+import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.model.ResumoImportacao;
+import br.com.rsimplicio.api.service.ExportadorMensagens;
+import br.com.rsimplicio.api.service.ImportadorMensagens;
+import br.com.rsimplicio.api.utils.MensagemHelper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class MensagemTransferenciaControllerTest {
+
+    private MockMvc mockMvc;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Mock
+    private ExportadorMensagens exportadorMensagens;
+
+    @Mock
+    private ImportadorMensagens importadorMensagens;
+
+    AutoCloseable mock;
+
+    @BeforeEach
+    void setup() {
+        mock = MockitoAnnotations.openMocks(this);
+        var controller = new MensagemTransferenciaController(
+                exportadorMensagens, importadorMensagens, objectMapper);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Nested
+    class ExportarMensagens {
+        @Test
+        @SuppressWarnings("unchecked")
+        void devePermitirExportarMensagensEmNdjson() throws Exception {
+            // Arrange
+            var primeira = MensagemHelper.gerarMensagem();
+            primeira.setId(UUID.fromString("0b6f3c1e-7d2a-4f59-8e14-6a3c9d2b5f70"));
+            var segunda = MensagemHelper.gerarMensagem();
+            segunda.setId(UUID.fromString("c4a2e8d1-3b5f-4c7e-9a06-1d8f2b4e6c93"));
+            doAnswer(i -> {
+                Consumer<Mensagem> consumidor = i.getArgument(0);
+                consumidor.accept(primeira);
+                consumidor.accept(segunda);
+                return null;
+            }).when(exportadorMensagens).exportar(any(Consumer.class));
+            // Act
+            var resposta = mockMvc.perform(get("/mensagens/export"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(
+                            MensagemTransferenciaController.APPLICATION_NDJSON_VALUE))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+            // Assert
+            var linhas = resposta.split("\n");
+            assertThat(resposta).endsWith("\n");
+            assertThat(linhas).hasSize(2);
+            assertThat(objectMapper.readValue(linhas[0], Mensagem.class).getId()).isEqualTo(primeira.getId());
+            assertThat(objectMapper.readValue(linhas[1], Mensagem.class).getId()).isEqualTo(segunda.getId());
+        }
+    }
+
+    @Nested
+    class ImportarMensagens {
+        @Test
+        void devePermitirImportarMensagensEmNdjson() throws Exception {
+            // Arrange
+            when(importadorMensagens.importar(any(InputStream.class)))
+                    .thenReturn(new ResumoImportacao(3, 2, 1, List.of(2L)));
+            // Act & Assert
+            mockMvc.perform(post("/mensagens/import")
+                    .contentType(MensagemTransferenciaController.APPLICATION_NDJSON_VALUE)
+                    .content("{\"usuario\":\"Ana\",\"conteudo\":\"a\"}\n{}\n"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.importadas").value(2))
+                    .andExpect(jsonPath("$.rejeitadas").value(1))
+                    .andExpect(jsonPath("$.linhasRejeitadas[0]").value(2));
+            verify(importadorMensagens, times(1)).importar(any(InputStream.class));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoImportarMensagens_PayloadJson() throws Exception {
+            // Act & Assert
+            mockMvc.perform(post("/mensagens/import")
+                    .contentType("application/json")
+                    .content("[]"))
+                    .andExpect(status().isUnsupportedMediaType());
+            verifyNoInteractions(importadorMensagens);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.rsimplicio.api.controller;
+
+import br.com.rsimplicio.api.exception.CursorInvalidoException;
+import br.com.rsimplicio.api.model.PaginaCursor;
+import br.com.rsimplicio.api.service.MensagemService;
+import br.com.rsimplicio.api.utils.MensagemHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class UsuarioMensagemControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private MensagemService mensagemService;
+
+    AutoCloseable mock;
+
+    @BeforeEach
+    void setup() {
+        mock = MockitoAnnotations.openMocks(this);
+        var usuarioMensagemController = new UsuarioMensagemController(mensagemService);
+        mockMvc = MockMvcBuilders.standaloneSetup(usuarioMensagemController)
+                .addFilter((request, response, chain) -> {
+                    response.setCharacterEncoding("UTF-8");
+                    chain.doFilter(request, response);
+                })
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Test
+    void devePermitirListarMensagensDoUsuario() throws Exception {
+        var mensagem = MensagemHelper.gerarMensagem();
+        mensagem.setId(UUID.fromString("9c1d2e3f-4a5b-4c6d-8e7f-0a1b2c3d4e5f"));
+        var pagina = new PaginaCursor<>(Collections.singletonList(mensagem), "proximo");
+
+        when(mensagemService.listarMensagensDoUsuario("Miguel", null, 5))
+                .thenReturn(pagina);
+
+        mockMvc.perform(get("/usuarios/{usuario}/mensagens", "Miguel")
+                .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.content", not(empty())))
+                .andExpect(jsonPath("$.nextCursor").value("proximo"));
+        verify(mensagemService, times(1)).listarMensagensDoUsuario("Miguel", null, 5);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoListarMensagensDoUsuario_CursorInvalido() throws Exception {
+        var mensagemDaExcecao = "Cursor inválido";
+
+        when(mensagemService.listarMensagensDoUsuario("Miguel", "invalido", 10))
+                .thenThrow(new CursorInvalidoException(mensagemDaExcecao));
+
+        mockMvc.perform(get("/usuarios/{usuario}/mensagens", "Miguel")
+                .param("after", "invalido"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(mensagemDaExcecao));
+    }
+
+    @Test
+    void deveLimitarTamanho_QuandoListarMensagensDoUsuario() throws Exception {
+        when(mensagemService.listarMensagensDoUsuario(eq("Miguel"), isNull(), anyInt()))
+                .thenReturn(new PaginaCursor<>(Collections.emptyList(), null));
+
+        mockMvc.perform(get("/usuarios/{usuario}/mensagens", "Miguel")
+                .param("size", String.valueOf(Integer.MAX_VALUE)))
+                .andExpect(status().isOk());
+        verify(mensagemService, times(1))
+                .listarMensagensDoUsuario("Miguel", null, MensagemController.TAMANHO_MAXIMO_PAGINA);
+    }
+}
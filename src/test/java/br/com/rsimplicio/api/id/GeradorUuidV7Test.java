@@ -0,0 +1,58 @@
+package br.com.rsimplicio.api.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeradorUuidV7Test {
+
+    private static final Comparator<UUID> ORDEM_BINARIA = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    @Test
+    void deveGerarUuidVersao7() {
+        var id = new GeradorUuidV7().gerar();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void deveCodificarTimestampNosPrimeiros48Bits() {
+        var gerador = new GeradorUuidV7(() -> 1_705_276_800_000L);
+
+        var id = gerador.gerar();
+
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(1_705_276_800_000L);
+    }
+
+    @Test
+    void deveGerarIdsCrescentes_NoMesmoMilissegundo() {
+        var gerador = new GeradorUuidV7(() -> 1_705_276_800_000L);
+        var ids = new ArrayList<UUID>();
+
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(gerador.gerar());
+        }
+
+        assertThat(ids).isSortedAccordingTo(ORDEM_BINARIA).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void deveGerarIdsCrescentes_QuandoRelogioRetroceder() {
+        var relogio = new AtomicLong(1_705_276_800_000L);
+        var gerador = new GeradorUuidV7(relogio::get);
+
+        var primeiro = gerador.gerar();
+        relogio.addAndGet(-5_000);
+        var segundo = gerador.gerar();
+
+        assertThat(ORDEM_BINARIA.compare(primeiro, segundo)).isNegative();
+    }
+}
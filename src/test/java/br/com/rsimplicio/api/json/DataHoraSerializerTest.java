@@ -0,0 +1,66 @@
+package br.com.rsimplicio.api.json;
+
+import br.com.rsimplicio.api.model.Mensagem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataHoraSerializerTest {
+
+    private static final DateTimeFormatter FORMATO = DateTimeFormatter.ofPattern(DataHoraSerializer.PADRAO);
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new SimpleModule().addSerializer(LocalDateTime.class, new DataHoraSerializer()));
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2023-07-01T12:34:56.123456789",
+            "2023-01-09T00:00:00",
+            "0001-12-31T23:59:59.999999999",
+            "9999-02-28T08:05:03.000010000",
+            "2024-02-29T10:00:00.000009999"
+    })
+    void deveGerarMesmoTextoQueDateTimeFormatter(String valor) throws Exception {
+        var dataHora = LocalDateTime.parse(valor);
+
+        var json = objectMapper.writeValueAsString(dataHora);
+
+        assertThat(json).isEqualTo("\"" + FORMATO.format(dataHora) + "\"");
+    }
+
+    @Test
+    void deveUsarFormatter_QuandoAnoTiverMaisDeQuatroDigitos() throws Exception {
+        var dataHora = LocalDateTime.of(12345, 1, 2, 3, 4, 5);
+
+        var json = objectMapper.writeValueAsString(dataHora);
+
+        assertThat(json).isEqualTo("\"" + FORMATO.format(dataHora) + "\"");
+    }
+
+    @Test
+    void devePermitirLerDataSerializadaNaMensagem() throws Exception {
+        var dataHora = LocalDateTime.of(2023, 7, 1, 12, 34, 56, 123_450_000);
+        var mensagem = Mensagem.builder()
+                .usuario("José")
+                .conteudo("conteúdo da mensagem")
+                .dataCriacao(dataHora)
+                .dataAlteracao(dataHora)
+                .build();
+        var objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        var json = objectMapper.writeValueAsString(mensagem);
+        var lida = objectMapper.readValue(json, Mensagem.class);
+
+        assertThat(json).contains("\"dataCriacao\":\"2023-07-01 12:34:56.12345\"");
+        assertThat(lida.getDataCriacao()).isEqualTo(dataHora);
+    }
+}
@@ -1,83 +1,85 @@
 package br.com.rsimplicio.api.performance;
 
-import io.gatling.javaapi.core.ActionBuilder;
+import io.gatling.javaapi.core.OpenInjectionStep;
 import io.gatling.javaapi.core.ScenarioBuilder;
 import io.gatling.javaapi.core.Simulation;
 import io.gatling.javaapi.http.HttpProtocolBuilder;
 
 import java.time.Duration;
 
+import static br.com.rsimplicio.api.performance.RequisicoesMensagem.*;
 import static io.gatling.javaapi.core.CoreDsl.*;
-import static io.gatling.javaapi.http.HttpDsl.http;
-import static io.gatling.javaapi.http.HttpDsl.status;
 
+/**
+ * Modelo aberto com o mix de tráfego da API: listagens são a maior parte,
+ * seguidas de buscas e "gostei"; escritas são minoria. As taxas base (usuários
+ * por segundo) são multiplicadas por {@code -Dtaxa}; {@code -Drampa} e
+ * {@code -Dduracao} definem, em segundos, a subida e o patamar.
+ */
 public class PerformanceSimulation extends Simulation {
 
-    private final HttpProtocolBuilder httpProtocol = http
-            .baseUrl("http://localhost:8080")
-            .header("Content-Type", "application/json");
+    private static final double TAXA = propriedade("taxa", 1.0);
+    private static final int RAMPA = propriedade("rampa", 10);
+    private static final int DURACAO = propriedade("duracao", 20);
 
-    ActionBuilder adicionarMensagemRequest = http("request: adicionar mensagem")
-            .post("/mensagens")
-            .body(StringBody("{\"usuario\": \"user\", \"conteudo\": \"conteudo da mensagem\"}"))
-            .check(status().is(201))
-            .check(jsonPath("$.id").saveAs("mensagemId"));
+    private final HttpProtocolBuilder httpProtocol = protocolo();
 
-    ActionBuilder buscarMensagemRequest = http("request: buscar mensagem")
-            .get("/mensagens/#{mensagemId}")
-            .check(status().is(200));
+    ScenarioBuilder cenarioListarMensagens = scenario("listar mensagens")
+            .exec(listar());
 
-    ActionBuilder removerMensagemRequest = http("request: remover mensagem")
-            .delete("/mensagens/#{mensagemId}")
-            .check(status().is(200));
+    ScenarioBuilder cenarioListarMensagensPorCursor = scenario("listar mensagens por cursor")
+            .exec(listarPorCursor());
 
     ScenarioBuilder cenarioAdicionarMensagem = scenario("adicionar mensagem")
-            .exec(adicionarMensagemRequest);
+            .feed(mensagens())
+            .exec(adicionar());
 
     ScenarioBuilder cenarioBuscarMensagem = scenario("buscar mensagem")
-            .exec(adicionarMensagemRequest)
-            .exec(buscarMensagemRequest);
+            .feed(mensagens())
+            .exec(adicionar())
+            .exec(buscar());
+
+    ScenarioBuilder cenarioAlterarMensagem = scenario("alterar mensagem")
+            .feed(mensagens())
+            .exec(adicionar())
+            .feed(mensagens())
+            .exec(alterar());
+
+    ScenarioBuilder cenarioGostei = scenario("registrar gostei")
+            .feed(mensagens())
+            .exec(adicionar())
+            .repeat(5).on(exec(gostei()));
 
     ScenarioBuilder cenarioRemoverMensagem = scenario("remover mensagem")
-            .exec(adicionarMensagemRequest)
-            .exec(removerMensagemRequest);
+            .feed(mensagens())
+            .exec(adicionar())
+            .exec(remover());
 
     {
         setUp(
-                cenarioAdicionarMensagem.injectOpen(
-                        rampUsersPerSec(1)
-                                .to(2)
-                                .during(Duration.ofSeconds(10)),
-                        constantUsersPerSec(2)
-                                .during(Duration.ofSeconds(20)),
-                        rampUsersPerSec(2)
-                                .to(1)
-                                .during(Duration.ofSeconds(10))
-                ),
-                cenarioBuscarMensagem.injectOpen(
-                        rampUsersPerSec(1)
-                                .to(10)
-                                .during(Duration.ofSeconds(10)),
-                        constantUsersPerSec(10)
-                                .during(Duration.ofSeconds(20)),
-                        rampUsersPerSec(10)
-                                .to(1)
-                                .during(Duration.ofSeconds(10))
-                ),
-                cenarioRemoverMensagem.injectOpen(
-                        rampUsersPerSec(1)
-                                .to(5)
-                                .during(Duration.ofSeconds(10)),
-                        constantUsersPerSec(5)
-                                .during(Duration.ofSeconds(20)),
-                        rampUsersPerSec(5)
-                                .to(1)
-                                .during(Duration.ofSeconds(10))
-                )
+                cenarioListarMensagens.injectOpen(carga(20)),
+                cenarioListarMensagensPorCursor.injectOpen(carga(5)),
+                cenarioBuscarMensagem.injectOpen(carga(10)),
+                cenarioGostei.injectOpen(carga(3)),
+                cenarioAdicionarMensagem.injectOpen(carga(2)),
+                cenarioAlterarMensagem.injectOpen(carga(1)),
+                cenarioRemoverMensagem.injectOpen(carga(1))
         )
                 .protocols(httpProtocol)
-                .assertions(
-                        global().responseTime().max().lt(50)
-                );
+                .assertions(assercoes());
+    }
+
+    private static OpenInjectionStep[] carga(double usuariosPorSegundo) {
+        var taxa = usuariosPorSegundo * TAXA;
+        return new OpenInjectionStep[]{
+                rampUsersPerSec(1)
+                        .to(taxa)
+                        .during(Duration.ofSeconds(RAMPA)),
+                constantUsersPerSec(taxa)
+                        .during(Duration.ofSeconds(DURACAO)),
+                rampUsersPerSec(taxa)
+                        .to(1)
+                        .during(Duration.ofSeconds(RAMPA))
+        };
     }
 }
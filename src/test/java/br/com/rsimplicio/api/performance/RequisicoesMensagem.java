@@ -0,0 +1,197 @@
+package br.com.rsimplicio.api.performance;
+
+import io.gatling.javaapi.core.ActionBuilder;
+import io.gatling.javaapi.core.Assertion;
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.header;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+/**
+ * Requisições, feeders e limites de latência compartilhados pelas simulações.
+ * Os parâmetros de carga vêm de propriedades de sistema ({@code -Dtaxa=2 -Dduracao=60}).
+ */
+final class RequisicoesMensagem {
+
+    static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8080");
+
+    static final String ADICIONAR = "request: adicionar mensagem";
+    static final String BUSCAR = "request: buscar mensagem";
+    static final String BUSCAR_CONDICIONAL = "request: buscar mensagem sem alteração";
+    static final String LISTAR = "request: listar mensagens";
+    static final String LISTAR_CURSOR = "request: listar mensagens por cursor";
+    static final String LISTAR_CURSOR_PROXIMA = "request: listar próxima página por cursor";
+    static final String ALTERAR = "request: alterar mensagem";
+    static final String GOSTEI = "request: registrar gostei";
+    static final String REMOVER = "request: remover mensagem";
+
+    /**
+     * Limites de p95 e p99 (ms) por requisição: leituras, escritas e o gostei assíncrono.
+     * A próxima página por cursor fica de fora porque só existe com mais de 20 mensagens.
+     */
+    private static final Map<String, int[]> LIMITES_LATENCIA = Map.of(
+            ADICIONAR, new int[]{100, 200},
+            BUSCAR, new int[]{50, 100},
+            BUSCAR_CONDICIONAL, new int[]{50, 100},
+            LISTAR, new int[]{100, 200},
+            LISTAR_CURSOR, new int[]{50, 100},
+            ALTERAR, new int[]{100, 200},
+            GOSTEI, new int[]{20, 50},
+            REMOVER, new int[]{100, 200});
+
+    private static final String[] PALAVRAS = {
+            "mensagem", "teste", "carga", "olá", "conteúdo", "api", "desempenho", "usuário", "latência", "rede"
+    };
+
+    private RequisicoesMensagem() {
+    }
+
+    static double propriedade(String nome, double padrao) {
+        return Double.parseDouble(System.getProperty(nome, String.valueOf(padrao)));
+    }
+
+    static int propriedade(String nome, int padrao) {
+        return Integer.getInteger(nome, padrao);
+    }
+
+    static HttpProtocolBuilder protocolo() {
+        return http
+                .baseUrl(BASE_URL)
+                .header("Content-Type", "application/json");
+    }
+
+    /**
+     * Usuários de um universo de 1000 e conteúdos de 10 a 255 caracteres
+     * (limite da coluna), com maioria de mensagens curtas.
+     */
+    static Iterator<Map<String, Object>> mensagens() {
+        return Stream.generate(() -> {
+            var aleatorio = ThreadLocalRandom.current();
+            var faixa = aleatorio.nextInt(100);
+            var tamanho = faixa < 60 ? aleatorio.nextInt(10, 80)
+                    : faixa < 90 ? aleatorio.nextInt(80, 180)
+                    : aleatorio.nextInt(180, 256);
+            return Map.<String, Object>of(
+                    "usuario", "usuario-" + aleatorio.nextInt(1, 1001),
+                    "conteudo", conteudo(tamanho));
+        }).iterator();
+    }
+
+    /**
+     * Páginas mais acessadas no início da listagem e dois tamanhos de página.
+     */
+    static Iterator<Map<String, Object>> paginas() {
+        return Stream.generate(() -> {
+            var aleatorio = ThreadLocalRandom.current();
+            return Map.<String, Object>of(
+                    "pagina", aleatorio.nextInt(100) < 80 ? 0 : aleatorio.nextInt(1, 5),
+                    "tamanhoPagina", aleatorio.nextBoolean() ? 10 : 50);
+        }).iterator();
+    }
+
+    static ActionBuilder adicionar() {
+        return http(ADICIONAR)
+                .post("/mensagens")
+                .body(StringBody("{\"usuario\": \"#{usuario}\", \"conteudo\": \"#{conteudo}\"}"))
+                .check(status().is(201))
+                .check(jsonPath("$.id").saveAs("mensagemId"));
+    }
+
+    static ChainBuilder buscar() {
+        return exec(http(BUSCAR)
+                .get("/mensagens/#{mensagemId}")
+                .check(status().is(200))
+                .check(header("ETag").saveAs("etag")))
+                .exec(http(BUSCAR_CONDICIONAL)
+                        .get("/mensagens/#{mensagemId}")
+                        .header("If-None-Match", "#{etag}")
+                        .check(status().is(304)));
+    }
+
+    static ChainBuilder listar() {
+        return feed(paginas())
+                .exec(http(LISTAR)
+                        .get("/mensagens")
+                        .queryParam("page", "#{pagina}")
+                        .queryParam("size", "#{tamanhoPagina}")
+                        .check(status().is(200)));
+    }
+
+    static ChainBuilder listarPorCursor() {
+        return exec(http(LISTAR_CURSOR)
+                .get("/mensagens/cursor")
+                .queryParam("size", "20")
+                .check(status().is(200))
+                .check(jsonPath("$.nextCursor").ofString().optional().saveAs("cursor")))
+                .doIf(session -> {
+                    var cursor = session.getString("cursor");
+                    return cursor != null && !cursor.equals("null");
+                }).then(
+                        exec(http(LISTAR_CURSOR_PROXIMA)
+                                .get("/mensagens/cursor")
+                                .queryParam("after", "#{cursor}")
+                                .queryParam("size", "20")
+                                .check(status().is(200))))
+                .exec(session -> session.remove("cursor"));
+    }
+
+    static ChainBuilder alterar() {
+        return exec(http(BUSCAR)
+                .get("/mensagens/#{mensagemId}")
+                .check(status().is(200))
+                .check(header("ETag").saveAs("etag")))
+                .exec(http(ALTERAR)
+                        .put("/mensagens/#{mensagemId}")
+                        .header("If-Match", "#{etag}")
+                        .body(StringBody("{\"id\": \"#{mensagemId}\", \"usuario\": \"#{usuario}\", "
+                                + "\"conteudo\": \"#{conteudo}\"}"))
+                        .check(status().is(202)));
+    }
+
+    static ActionBuilder gostei() {
+        return http(GOSTEI)
+                .post("/mensagens/#{mensagemId}/gostei")
+                .check(status().is(202));
+    }
+
+    static ActionBuilder remover() {
+        return http(REMOVER)
+                .delete("/mensagens/#{mensagemId}")
+                .check(status().is(200));
+    }
+
+    /**
+     * p95/p99 por requisição, mais a taxa global de sucesso.
+     */
+    static List<Assertion> assercoes() {
+        var assercoes = new ArrayList<Assertion>();
+        assercoes.add(global().successfulRequests().percent().gt(99.0));
+        LIMITES_LATENCIA.forEach((requisicao, limites) -> {
+            assercoes.add(details(requisicao).responseTime().percentile(95.0).lt(limites[0]));
+            assercoes.add(details(requisicao).responseTime().percentile(99.0).lt(limites[1]));
+        });
+        return assercoes;
+    }
+
+    private static String conteudo(int tamanho) {
+        var aleatorio = ThreadLocalRandom.current();
+        var texto = new StringBuilder(tamanho + 16);
+        while (texto.length() < tamanho) {
+            if (!texto.isEmpty()) {
+                texto.append(' ');
+            }
+            texto.append(PALAVRAS[aleatorio.nextInt(PALAVRAS.length)]);
+        }
+        return texto.substring(0, tamanho);
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.rsimplicio.api.performance;
+
+import io.gatling.javaapi.core.Choice;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.Duration;
+
+import static br.com.rsimplicio.api.performance.RequisicoesMensagem.*;
+import static io.gatling.javaapi.core.CoreDsl.*;
+
+/**
+ * Teste de resistência em modelo fechado: {@code -Dusuarios} clientes
+ * simultâneos repetem o mix de tráfego, com pausas entre as ações, durante
+ * {@code -Dduracao} segundos (padrão: 30 minutos). Serve para detectar
+ * vazamentos, crescimento de pool e degradação de latência ao longo do tempo.
+ */
+public class SoakSimulation extends Simulation {
+
+    private static final int USUARIOS = propriedade("usuarios", 50);
+    private static final int RAMPA = propriedade("rampa", 60);
+    private static final int DURACAO = propriedade("duracao", 1800);
+
+    private final HttpProtocolBuilder httpProtocol = protocolo();
+
+    ScenarioBuilder cenarioUsoContinuo = scenario("uso contínuo")
+            .during(Duration.ofSeconds(RAMPA + DURACAO)).on(
+                    feed(mensagens())
+                            .randomSwitch().on(
+                                    Choice.withWeight(45.0, listar()),
+                                    Choice.withWeight(10.0, listarPorCursor()),
+                                    Choice.withWeight(20.0, exec(adicionar()).exec(buscar())),
+                                    Choice.withWeight(12.0, exec(adicionar()).exec(gostei())),
+                                    Choice.withWeight(8.0, exec(adicionar()).feed(mensagens()).exec(alterar())),
+                                    Choice.withWeight(5.0, exec(adicionar()).exec(remover()))
+                            )
+                            .pause(Duration.ofMillis(200), Duration.ofSeconds(2)));
+
+    {
+        setUp(
+                cenarioUsoContinuo.injectClosed(
+                        rampConcurrentUsers(1)
+                                .to(USUARIOS)
+                                .during(Duration.ofSeconds(RAMPA)),
+                        constantConcurrentUsers(USUARIOS)
+                                .during(Duration.ofSeconds(DURACAO))
+                )
+        )
+                .protocols(httpProtocol)
+                .maxDuration(Duration.ofSeconds(RAMPA + DURACAO + 60L))
+                .assertions(assercoes());
+    }
+}
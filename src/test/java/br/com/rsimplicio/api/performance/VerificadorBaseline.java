@@ -0,0 +1,143 @@
+package br.com.rsimplicio.api.performance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Compara os percentis de cada requisição da última execução do Gatling
+ * ({@code js/stats.json}) com a baseline versionada e falha se algum passar da
+ * tolerância. Executado pelo perfil Maven {@code performance-gate} na fase
+ * {@code verify}; com {@code -Dbaseline.atualizar=true} regrava a baseline a
+ * partir da execução atual.
+ *
+ * <p>Os percentis 3 e 4 do {@code stats.json} são p95 e p99 na configuração
+ * padrão do Gatling ({@code gatling.charting.indicators.percentile3/4}).
+ */
+public final class VerificadorBaseline {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final JsonNode baseline;
+
+    VerificadorBaseline(JsonNode baseline) {
+        this.baseline = baseline;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("uso: VerificadorBaseline <diretório de resultados do Gatling> <baseline.json>");
+        }
+        var execucao = ultimaExecucao(Path.of(args[0]));
+        var arquivoBaseline = Path.of(args[1]);
+        var estatisticas = MAPPER.readTree(execucao.resolve("js/stats.json").toFile());
+        var baseline = MAPPER.readTree(arquivoBaseline.toFile());
+
+        if (Boolean.getBoolean("baseline.atualizar")) {
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(arquivoBaseline.toFile(), atualizar(baseline, estatisticas));
+            System.out.println("Baseline atualizada a partir de " + execucao);
+            return;
+        }
+
+        var regressoes = new VerificadorBaseline(baseline).verificar(estatisticas);
+        if (!regressoes.isEmpty()) {
+            regressoes.forEach(regressao -> System.err.println("[performance-gate] " + regressao));
+            throw new IllegalStateException(regressoes.size() + " regressão(ões) de desempenho em relação a " + arquivoBaseline);
+        }
+        System.out.println("[performance-gate] percentis dentro da baseline (" + execucao.getFileName() + ")");
+    }
+
+    List<String> verificar(JsonNode estatisticas) {
+        var percentualTolerado = baseline.path("toleranciaPercentual").asDouble(0);
+        var msTolerados = baseline.path("toleranciaMs").asDouble(0);
+        var obtidos = requisicoes(estatisticas);
+        var regressoes = new ArrayList<String>();
+
+        baseline.path("requisicoes").fields().forEachRemaining(entrada -> {
+            var nome = entrada.getKey();
+            var obtido = obtidos.get(nome);
+            if (obtido == null) {
+                regressoes.add(nome + ": não executada");
+                return;
+            }
+            var falhas = obtido.path("numberOfRequests").path("ko").asLong();
+            if (falhas > 0) {
+                regressoes.add(nome + ": " + falhas + " requisições com falha");
+            }
+            comparar(nome, "p95", entrada.getValue().path("p95"), obtido.path("percentiles3"), percentualTolerado, msTolerados, regressoes);
+            comparar(nome, "p99", entrada.getValue().path("p99"), obtido.path("percentiles4"), percentualTolerado, msTolerados, regressoes);
+        });
+        return regressoes;
+    }
+
+    private static void comparar(String nome, String percentil, JsonNode esperado, JsonNode obtido,
+                                 double percentualTolerado, double msTolerados, List<String> regressoes) {
+        if (esperado.isMissingNode()) {
+            return;
+        }
+        var limite = esperado.asDouble() * (1 + percentualTolerado / 100) + msTolerados;
+        var atual = obtido.path("ok").asDouble();
+        if (atual > limite) {
+            regressoes.add(String.format("%s: %s de %.0f ms acima do limite de %.0f ms (baseline %.0f ms)",
+                    nome, percentil, atual, limite, esperado.asDouble()));
+        }
+    }
+
+    static Map<String, JsonNode> requisicoes(JsonNode estatisticas) {
+        var requisicoes = new LinkedHashMap<String, JsonNode>();
+        coletar(estatisticas, requisicoes);
+        return requisicoes;
+    }
+
+    private static void coletar(JsonNode no, Map<String, JsonNode> requisicoes) {
+        if ("REQUEST".equals(no.path("type").asText())) {
+            requisicoes.put(no.path("name").asText(), no.path("stats"));
+        }
+        no.path("contents").forEach(filho -> coletar(filho, requisicoes));
+    }
+
+    static JsonNode atualizar(JsonNode baseline, JsonNode estatisticas) {
+        var atualizada = baseline.deepCopy();
+        var requisicoes = ((ObjectNode) atualizada).putObject("requisicoes");
+        requisicoes(estatisticas).forEach((nome, stats) -> requisicoes.putObject(nome)
+                .put("p95", stats.path("percentiles3").path("ok").asLong())
+                .put("p99", stats.path("percentiles4").path("ok").asLong()));
+        return atualizada;
+    }
+
+    private static Path ultimaExecucao(Path resultados) throws IOException {
+        var ultima = resultados.resolve("lastRun.txt");
+        if (Files.exists(ultima)) {
+            // uma linha por simulação executada; a última é a mais recente
+            var linhas = Files.readAllLines(ultima).stream().filter(linha -> !linha.isBlank()).toList();
+            if (!linhas.isEmpty()) {
+                return resultados.resolve(linhas.get(linhas.size() - 1).strip());
+            }
+        }
+        try (Stream<Path> execucoes = Files.list(resultados)) {
+            return execucoes
+                    .filter(execucao -> Files.exists(execucao.resolve("js/stats.json")))
+                    .max(Comparator.comparing(VerificadorBaseline::modificacao))
+                    .orElseThrow(() -> new IllegalStateException("Nenhuma execução do Gatling em " + resultados));
+        }
+    }
+
+    private static long modificacao(Path execucao) {
+        try {
+            return Files.getLastModifiedTime(execucao).toMillis();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
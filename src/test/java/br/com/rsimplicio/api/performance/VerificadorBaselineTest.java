@@ -0,0 +1,85 @@
+package br.com.rsimplicio.api.performance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerificadorBaselineTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String BASELINE = """
+            {
+              "toleranciaPercentual": 20,
+              "toleranciaMs": 5,
+              "requisicoes": {
+                "request: buscar mensagem": { "p95": 10, "p99": 20 }
+              }
+            }
+            """;
+
+    @Test
+    void deveAceitarPercentis_DentroDaTolerancia() throws Exception {
+        var verificador = new VerificadorBaseline(MAPPER.readTree(BASELINE));
+
+        var regressoes = verificador.verificar(estatisticas("request: buscar mensagem", 0, 17, 29));
+
+        assertThat(regressoes).isEmpty();
+    }
+
+    @Test
+    void deveApontarRegressao_QuandoPercentilExcederTolerancia() throws Exception {
+        var verificador = new VerificadorBaseline(MAPPER.readTree(BASELINE));
+
+        var regressoes = verificador.verificar(estatisticas("request: buscar mensagem", 0, 12, 30));
+
+        assertThat(regressoes)
+                .singleElement()
+                .asString()
+                .startsWith("request: buscar mensagem: p99 de 30 ms");
+    }
+
+    @Test
+    void deveApontarRegressao_QuandoRequisicaoFalharOuNaoForExecutada() throws Exception {
+        var verificador = new VerificadorBaseline(MAPPER.readTree(BASELINE));
+
+        assertThat(verificador.verificar(estatisticas("request: buscar mensagem", 3, 10, 20)))
+                .containsExactly("request: buscar mensagem: 3 requisições com falha");
+        assertThat(verificador.verificar(estatisticas("request: outra", 0, 10, 20)))
+                .containsExactly("request: buscar mensagem: não executada");
+    }
+
+    @Test
+    void deveAtualizarBaseline_ComPercentisDaExecucao() throws Exception {
+        var atualizada = VerificadorBaseline.atualizar(
+                MAPPER.readTree(BASELINE), estatisticas("request: listar mensagens", 0, 30, 45));
+
+        assertThat(atualizada.path("toleranciaPercentual").asInt()).isEqualTo(20);
+        assertThat(atualizada.path("requisicoes").has("request: buscar mensagem")).isFalse();
+        assertThat(atualizada.at("/requisicoes/request: listar mensagens/p95").asLong()).isEqualTo(30);
+        assertThat(atualizada.at("/requisicoes/request: listar mensagens/p99").asLong()).isEqualTo(45);
+    }
+
+    private static JsonNode estatisticas(String requisicao, long falhas, long p95, long p99) throws Exception {
+        return MAPPER.readTree("""
+                {
+                  "type": "GROUP",
+                  "name": "All Requests",
+                  "stats": {},
+                  "contents": {
+                    "req_1": {
+                      "type": "REQUEST",
+                      "name": "%s",
+                      "stats": {
+                        "numberOfRequests": { "total": 100, "ok": 100, "ko": %d },
+                        "percentiles3": { "total": %d, "ok": %d, "ko": 0 },
+                        "percentiles4": { "total": %d, "ok": %d, "ko": 0 }
+                      }
+                    }
+                  }
+                }
+                """.formatted(requisicao, falhas, p95, p95, p99, p99));
+    }
+}
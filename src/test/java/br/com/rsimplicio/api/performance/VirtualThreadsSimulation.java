@@ -0,0 +1,57 @@
+package br.com.rsimplicio.api.performance;
+
+import io.gatling.javaapi.core.ActionBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.Duration;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+/**
+ * Carga fechada contra a aplicação no perfil {@code slow-db}. Executar uma vez
+ * com threads de plataforma e outra com threads virtuais, informando em
+ * {@code rpsMinimo} a vazão obtida na primeira execução:
+ * <pre>
+ * make performance-test-virtual-threads BASE_URL=http://localhost:8081 RPS_MINIMO=3500
+ * </pre>
+ */
+public class VirtualThreadsSimulation extends Simulation {
+
+    private static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8080");
+    private static final int USUARIOS = Integer.getInteger("usuarios", 800);
+    private static final int DURACAO = Integer.getInteger("duracao", 30);
+    private static final double RPS_MINIMO = Double.parseDouble(System.getProperty("rpsMinimo", "0"));
+
+    private final HttpProtocolBuilder httpProtocol = http
+            .baseUrl(BASE_URL)
+            .header("Content-Type", "application/json");
+
+    ActionBuilder listarMensagensRequest = http("request: listar mensagens")
+            .get("/mensagens/slice?page=0&size=10")
+            .check(status().is(200));
+
+    ScenarioBuilder cenarioListarMensagens = scenario("listar mensagens com banco lento")
+            .forever().on(exec(listarMensagensRequest));
+
+    {
+        setUp(
+                cenarioListarMensagens.injectClosed(
+                        rampConcurrentUsers(1)
+                                .to(USUARIOS)
+                                .during(Duration.ofSeconds(10)),
+                        constantConcurrentUsers(USUARIOS)
+                                .during(Duration.ofSeconds(DURACAO))
+                )
+        )
+                .protocols(httpProtocol)
+                .maxDuration(Duration.ofSeconds(DURACAO + 10L))
+                .assertions(
+                        global().successfulRequests().percent().gt(99.0),
+                        global().requestsPerSec().gt(RPS_MINIMO)
+                );
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -83,4 +84,21 @@ class MensagemRepositoryIT {
         // Assert
         assertThat(resultadosObtidos).hasSizeGreaterThan(0);
     }
+
+    @Test
+    void devePermitirListarMensagensAposCursor() {
+        // Arrange
+        var dataCriacao = LocalDateTime.of(2024, 1, 15, 0, 0, 0, 300_000_000);
+        var id = UUID.fromString("1d50cccf-e4e0-4a83-bac4-449d6693cfd1");
+
+        // Act
+        var resultadosObtidos = mensagemRepository.listarMensagensApos(dataCriacao, id, 10);
+
+        // Assert
+        assertThat(resultadosObtidos)
+                .extracting(Mensagem::getId)
+                .containsExactly(
+                        UUID.fromString("47aedc7b-972f-4ab5-8d4c-43bace07df5d"),
+                        UUID.fromString("4a3679eb-5f35-497f-b113-fae19fb004ce"));
+    }
 }
@@ -0,0 +1,159 @@
+package br.com.rsimplicio.api.service;
+
+import br.com.rsimplicio.api.config.CacheConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AcumuladorGosteiTest {
+
+    private AcumuladorGostei acumuladorGostei;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private CacheSegundoNivel cacheSegundoNivel;
+
+    AutoCloseable mock;
+
+    @BeforeEach
+    void setup() {
+        mock = MockitoAnnotations.openMocks(this);
+        when(cacheManager.getCache(CacheConfig.CACHE_MENSAGENS)).thenReturn(cache);
+        acumuladorGostei = new AcumuladorGostei(
+                jdbcTemplate, new TransactionTemplate(transactionManager), cacheManager, cacheSegundoNivel);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Test
+    void deveGravarIncrementosAgregados_QuandoDescarregar() throws Exception {
+        // Arrange
+        var id = UUID.fromString("0f8e4d2c-1a3b-4c5d-8e7f-9a0b1c2d3e4f");
+        var executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> acumuladorGostei.registrar(id));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        // Act
+        acumuladorGostei.descarregar();
+        // Assert
+        var incrementos = capturarIncrementos();
+        assertThat(incrementos).containsExactly(new AcumuladorGostei.Incremento(id, 1000));
+        verify(cache, times(1)).evict(id);
+        verify(cacheSegundoNivel, times(1)).invalidarMensagens(List.of(id));
+    }
+
+    @Test
+    void naoDeveGravar_QuandoNaoHouverIncrementos() {
+        // Act
+        acumuladorGostei.descarregar();
+        // Assert
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void deveManterIncrementos_QuandoGravacaoFalhar() {
+        // Arrange
+        var id = UUID.fromString("6c5b4a39-2817-4f6e-9d0c-b1a2f3e4d5c6");
+        acumuladorGostei.registrar(id);
+        acumuladorGostei.registrar(id);
+        doThrow(new DataAccessResourceFailureException("banco indisponível"))
+                .when(jdbcTemplate)
+                .batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        acumuladorGostei.descarregar();
+        reset(jdbcTemplate);
+        // Act
+        acumuladorGostei.descarregar();
+        // Assert
+        assertThat(capturarIncrementos()).containsExactly(new AcumuladorGostei.Incremento(id, 2));
+        verify(cache, times(1)).evict(id);
+        verify(cacheSegundoNivel, times(1)).invalidarMensagens(List.of(id));
+    }
+
+    @Test
+    void deveGravarEmUmaTransacao_QuandoDescarregar() {
+        // Arrange
+        acumuladorGostei.registrar(UUID.fromString("2e4f6a8c-0b1d-4f3e-9a5c-7e9b1d3f5a7c"));
+        // Act
+        acumuladorGostei.descarregar();
+        // Assert
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void deveDescarregarUmaVez_QuandoEncerrar() {
+        // Arrange
+        var id = UUID.fromString("8d7c6b5a-4f3e-4d2c-9b1a-0f9e8d7c6b5a");
+        acumuladorGostei.registrar(id);
+        // Act
+        acumuladorGostei.encerrar();
+        // Assert
+        assertThat(capturarIncrementos()).containsExactly(new AcumuladorGostei.Incremento(id, 1));
+    }
+
+    @Test
+    void deveTerminar_QuandoEncerrarComBancoIndisponivel() {
+        // Arrange
+        acumuladorGostei.registrar(UUID.fromString("1a2b3c4d-5e6f-4a7b-8c9d-0e1f2a3b4c5d"));
+        doThrow(new DataAccessResourceFailureException("banco indisponível"))
+                .when(jdbcTemplate)
+                .batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        // Act
+        acumuladorGostei.encerrar();
+        // Assert
+        verify(jdbcTemplate, times(1))
+                .batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<AcumuladorGostei.Incremento> capturarIncrementos() {
+        ArgumentCaptor<Collection<AcumuladorGostei.Incremento>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(
+                eq(AcumuladorGostei.SQL_INCREMENTAR),
+                captor.capture(),
+                anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.rsimplicio.api.service;
+
+import br.com.rsimplicio.api.repository.MensagemRepository;
+import br.com.rsimplicio.api.utils.MensagemHelper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sem {@code @Transactional} na classe: cada leitura roda na própria transação,
+ * como nas requisições, para que o cache de segundo nível seja de fato consultado.
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class CacheSegundoNivelIT {
+
+    @Autowired
+    private MensagemService mensagemService;
+    @Autowired
+    private MensagemRepository mensagemRepository;
+    @Autowired
+    private CacheSegundoNivel cacheSegundoNivel;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics estatisticas;
+    private TransactionTemplate leitura;
+
+    @BeforeEach
+    void setup() {
+        var sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        estatisticas = sessionFactory.getStatistics();
+        leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+    }
+
+    @Test
+    void naoDeveConsultarBanco_QuandoRepetirPrimeiraPaginaDaListagem() {
+        var pagina = PageRequest.of(0, 10);
+        var primeiraLeitura = mensagemService.listarMensagens(pagina);
+        var comandosAntes = estatisticas.getPrepareStatementCount();
+
+        var segundaLeitura = mensagemService.listarMensagens(pagina);
+
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(comandosAntes);
+        assertThat(segundaLeitura.getContent()).isEqualTo(primeiraLeitura.getContent());
+        assertThat(segundaLeitura.getTotalElements()).isEqualTo(primeiraLeitura.getTotalElements());
+    }
+
+    @Test
+    void naoDeveConsultarBanco_QuandoRepetirBuscaPorId() {
+        var id = UUID.fromString("47aedc7b-972f-4ab5-8d4c-43bace07df5d");
+        leitura.executeWithoutResult(status -> mensagemRepository.findById(id));
+        var comandosAntes = estatisticas.getPrepareStatementCount();
+
+        leitura.executeWithoutResult(status -> mensagemRepository.findById(id));
+
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(comandosAntes);
+    }
+
+    @Test
+    void deveConsultarBancoSoPelaMensagem_QuandoMensagensForemInvalidadas() {
+        var id = UUID.fromString("47aedc7b-972f-4ab5-8d4c-43bace07df5d");
+        var pagina = PageRequest.of(0, 10);
+        leitura.executeWithoutResult(status -> mensagemRepository.findById(id));
+        mensagemService.listarMensagens(pagina);
+        var comandosAntes = estatisticas.getPrepareStatementCount();
+
+        cacheSegundoNivel.invalidarMensagens(List.of(id));
+        leitura.executeWithoutResult(status -> mensagemRepository.findById(id));
+        mensagemService.listarMensagens(pagina);
+
+        // só o SELECT da mensagem: a página continua no cache de consultas
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(comandosAntes + 1);
+    }
+
+    @Test
+    void deveManterOutrasMensagensEmCache_QuandoAlterarEExcluirMensagem() {
+        var id = UUID.fromString("47aedc7b-972f-4ab5-8d4c-43bace07df5d");
+        var registrada = mensagemService.registrarMensagem(MensagemHelper.gerarMensagem());
+        var alteracao = MensagemHelper.gerarMensagem();
+        alteracao.setId(registrada.getId());
+        alteracao.setConteudo("conteúdo alterado");
+        leitura.executeWithoutResult(status -> mensagemRepository.findById(id));
+
+        mensagemService.alterarMensagem(registrada.getId(), alteracao);
+        mensagemService.excluirMensagem(registrada.getId());
+        var comandosAntes = estatisticas.getPrepareStatementCount();
+        leitura.executeWithoutResult(status -> mensagemRepository.findById(id));
+
+        // um UPDATE/DELETE em JPQL esvaziaria a região inteira
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(comandosAntes);
+    }
+}
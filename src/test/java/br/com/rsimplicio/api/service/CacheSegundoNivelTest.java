@@ -0,0 +1,112 @@
+package br.com.rsimplicio.api.service;
+
+import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.repository.MensagemRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class CacheSegundoNivelTest {
+
+    private CacheSegundoNivel cacheSegundoNivel;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Statistics estatisticas;
+
+    @Mock
+    private Cache cache;
+
+    AutoCloseable mock;
+
+    @BeforeEach
+    void setup() {
+        mock = MockitoAnnotations.openMocks(this);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(estatisticas);
+        when(sessionFactory.getCache()).thenReturn(cache);
+        meterRegistry = new SimpleMeterRegistry();
+        cacheSegundoNivel = new CacheSegundoNivel(entityManagerFactory, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Test
+    void deveInvalidarMensagens_SemDescartarPaginasDaListagem() {
+        // Arrange
+        var id = UUID.fromString("3d2c1b0a-9f8e-4d7c-8b6a-5f4e3d2c1b0a");
+        var outroId = UUID.fromString("7a6b5c4d-3e2f-4a1b-9c8d-7e6f5a4b3c2d");
+        // Act
+        cacheSegundoNivel.invalidarMensagens(List.of(id, outroId));
+        // Assert
+        verify(cache, times(1)).evictEntityData(Mensagem.class, id);
+        verify(cache, times(1)).evictEntityData(Mensagem.class, outroId);
+        verify(cache, never()).evictQueryRegion(anyString());
+    }
+
+    @Test
+    void deveInvalidarMensagemEPaginasDaListagem_QuandoAlterarOuExcluir() {
+        // Arrange
+        var id = UUID.fromString("3d2c1b0a-9f8e-4d7c-8b6a-5f4e3d2c1b0a");
+        // Act
+        cacheSegundoNivel.invalidarMensagem(id);
+        // Assert
+        verify(cache, times(1)).evictEntityData(Mensagem.class, id);
+        verify(cache, times(1)).evictQueryRegion(MensagemRepository.REGIAO_LISTAGEM);
+        verify(cache, never()).evictEntityData(Mensagem.class);
+    }
+
+    @Test
+    void deveExporEstatisticasPorRegiao() {
+        // Arrange
+        var regiaoMensagem = mock(CacheRegionStatistics.class);
+        when(regiaoMensagem.getHitCount()).thenReturn(8L);
+        when(regiaoMensagem.getMissCount()).thenReturn(2L);
+        when(regiaoMensagem.getPutCount()).thenReturn(2L);
+        when(estatisticas.getCacheRegionStatistics(CacheSegundoNivel.REGIAO_MENSAGEM)).thenReturn(regiaoMensagem);
+        // Act
+        var acertos = meterRegistry.get(CacheSegundoNivel.METRICA_REQUISICOES)
+                .tag("regiao", CacheSegundoNivel.REGIAO_MENSAGEM)
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+        var inclusoes = meterRegistry.get(CacheSegundoNivel.METRICA_INCLUSOES)
+                .tag("regiao", CacheSegundoNivel.REGIAO_MENSAGEM)
+                .functionCounter()
+                .count();
+        // a região de consultas ainda não foi criada
+        var acertosListagem = meterRegistry.get(CacheSegundoNivel.METRICA_REQUISICOES)
+                .tag("regiao", MensagemRepository.REGIAO_LISTAGEM)
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+        // Assert
+        assertThat(acertos).isEqualTo(8);
+        assertThat(inclusoes).isEqualTo(2);
+        assertThat(acertosListagem).isZero();
+    }
+}
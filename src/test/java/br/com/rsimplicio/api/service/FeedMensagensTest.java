@@ -0,0 +1,148 @@
+package br.com.rsimplicio.api.service;
+
+import br.com.rsimplicio.api.model.MensagemEvento;
+import br.com.rsimplicio.api.utils.MensagemHelper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedMensagensTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void deveEnviarEventosPublicados_AosAssinantes() {
+        var feed = criarFeed(8, 4, Runnable::run);
+        var emitter = new EmitterGravado();
+        feed.assinar(null, emitter);
+
+        feed.publicar(registrada());
+        feed.publicar(MensagemEvento.excluida(UUID.randomUUID()));
+
+        assertThat(emitter.ids()).containsExactly("1", "2");
+        assertThat(emitter.eventos.get(0)).contains("event:registrada");
+        assertThat(emitter.eventos.get(1)).contains("event:excluida");
+    }
+
+    @Test
+    void deveReenviarEventosDoBuffer_APartirDoLastEventId() {
+        var feed = criarFeed(8, 4, Runnable::run);
+        for (int i = 0; i < 5; i++) {
+            feed.publicar(registrada());
+        }
+        var emitter = new EmitterGravado();
+
+        feed.assinar("3", emitter);
+        feed.publicar(registrada());
+
+        assertThat(emitter.ids()).containsExactly("4", "5", "6");
+    }
+
+    @Test
+    void deveAvisarLacuna_QuandoLastEventIdSairDoBuffer() {
+        var feed = criarFeed(4, 4, Runnable::run);
+        for (int i = 0; i < 10; i++) {
+            feed.publicar(registrada());
+        }
+        var emitter = new EmitterGravado();
+
+        feed.assinar("2", emitter);
+
+        assertThat(emitter.eventos.get(0)).contains("event:lacuna");
+        assertThat(emitter.ids()).containsExactly("7", "8", "9", "10");
+    }
+
+    @Test
+    void deveDesconectarAssinanteLento_SemBloquearPublicacao() {
+        Executor envioParado = tarefa -> { };
+        var feed = criarFeed(8, 2, envioParado);
+        feed.assinar(null, new EmitterGravado());
+
+        for (int i = 0; i < 5; i++) {
+            feed.publicar(registrada());
+        }
+
+        assertThat(feed.totalAssinantes()).isZero();
+        assertThat(meterRegistry.counter(FeedMensagens.METRICA_DESCONEXOES, "motivo", "atraso").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void deveDividirEnvioEmLotes_QuandoAssinanteEstiverAtrasado() {
+        var tarefas = new ArrayDeque<Runnable>();
+        var feed = criarFeed(256, 256, tarefas::add);
+        var emitter = new EmitterGravado();
+        feed.assinar(null, emitter);
+        for (int i = 0; i < 100; i++) {
+            feed.publicar(registrada());
+        }
+
+        tarefas.poll().run();
+        var enviadosNaPrimeiraTarefa = emitter.ids().size();
+        while (!tarefas.isEmpty()) {
+            tarefas.poll().run();
+        }
+
+        assertThat(enviadosNaPrimeiraTarefa).isLessThan(100);
+        assertThat(emitter.ids()).hasSize(100).startsWith("1").endsWith("100");
+    }
+
+    @Test
+    void naoDeveEncerrarExecutorCompartilhado_QuandoDesligar() {
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var feed = criarFeed(8, 4, executor);
+
+            feed.desligar();
+
+            assertThat(executor.isShutdown()).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private FeedMensagens criarFeed(int capacidade, int capacidadeFila, Executor envio) {
+        return new FeedMensagens(capacidade, capacidadeFila, Duration.ofMinutes(1), envio, meterRegistry);
+    }
+
+    private static MensagemEvento registrada() {
+        var mensagem = MensagemHelper.gerarMensagem();
+        mensagem.setId(UUID.randomUUID());
+        return MensagemEvento.registrada(mensagem);
+    }
+
+    private static class EmitterGravado extends SseEmitter {
+        private final List<String> eventos = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            eventos.add(builder.build().stream()
+                    .map(dado -> String.valueOf(dado.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        List<String> ids() {
+            return eventos.stream()
+                    .filter(evento -> evento.startsWith("id:"))
+                    .map(evento -> evento.substring(3, evento.indexOf('\n')))
+                    .toList();
+        }
+    }
+}
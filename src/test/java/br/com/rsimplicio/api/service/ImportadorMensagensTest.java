@@ -0,0 +1,128 @@
+package br.com.rsimplicio.api.service;
+
+import br.com.rsimplicio.api.model.ItemLote;
+import br.com.rsimplicio.api.model.Mensagem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ImportadorMensagensTest {
+
+    private ImportadorMensagens importadorMensagens;
+
+    @Mock
+    private RegistradorLote registradorLote;
+
+    AutoCloseable mock;
+
+    @BeforeEach
+    void setup() {
+        mock = MockitoAnnotations.openMocks(this);
+        var objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        importadorMensagens = new ImportadorMensagens(registradorLote, objectMapper, 2, 64);
+        when(registradorLote.registrar(anyList())).thenAnswer(i -> {
+            List<Mensagem> mensagens = i.getArgument(0);
+            var itens = new ArrayList<ItemLote>();
+            for (int indice = 0; indice < mensagens.size(); indice++) {
+                var conteudo = mensagens.get(indice).getConteudo();
+                itens.add(conteudo == null || conteudo.isEmpty()
+                        ? ItemLote.rejeitada(indice, "conteúdo não pode estar vazio")
+                        : ItemLote.registrada(indice, UUID.randomUUID()));
+            }
+            return itens;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Test
+    void devePermitirImportarMensagensEmBlocos() throws Exception {
+        // Arrange
+        var corpo = """
+                {"usuario":"Ana","conteudo":"mensagem 1"}
+                {"usuario":"Ana","conteudo":"mensagem 2"}
+
+                {"usuario":"Ana","conteudo":"mensagem 3"}
+                """;
+        // Act
+        var resumo = importadorMensagens.importar(paraEntrada(corpo));
+        // Assert
+        assertThat(resumo.linhas()).isEqualTo(4);
+        assertThat(resumo.importadas()).isEqualTo(3);
+        assertThat(resumo.rejeitadas()).isZero();
+        verify(registradorLote, times(2)).registrar(anyList());
+    }
+
+    @Test
+    void deveInformarLinhasRejeitadas() throws Exception {
+        // Arrange
+        var corpo = "{\"usuario\":\"Ana\",\"conteudo\":\"mensagem 1\"}\r\n"
+                + "{\"usuario\":\"Ana\",\"conteudo\":}\n"
+                + "{\"usuario\":\"Ana\",\"conteudo\":\"\"}\n"
+                + "{\"usuario\":\"Ana\",\"conteudo\":\"" + "x".repeat(100) + "\"}\n"
+                + "{\"usuario\":\"Ana\",\"conteudo\":\"mensagem 5\"}";
+        // Act
+        var resumo = importadorMensagens.importar(paraEntrada(corpo));
+        // Assert
+        assertThat(resumo.linhas()).isEqualTo(5);
+        assertThat(resumo.importadas()).isEqualTo(2);
+        assertThat(resumo.rejeitadas()).isEqualTo(3);
+        assertThat(resumo.linhasRejeitadas()).containsExactlyInAnyOrder(2L, 3L, 4L);
+    }
+
+    @Test
+    void deveContinuarNaLinhaSeguinte_QuandoLinhaExcederBufferDoParser() throws Exception {
+        // Arrange
+        var corpo = "{\"usuario\":\"Ana\",\"conteudo\":\"" + "x".repeat(20_000) + "\"}\n"
+                + "{\"usuario\":\"Ana\",\"conteudo\":\"mensagem 2\"}\n";
+        // Act
+        var resumo = importadorMensagens.importar(paraEntrada(corpo));
+        // Assert
+        assertThat(resumo.linhas()).isEqualTo(2);
+        assertThat(resumo.importadas()).isEqualTo(1);
+        assertThat(resumo.linhasRejeitadas()).containsExactly(1L);
+    }
+
+    @Test
+    void deveContinuarNaLinhaSeguinte_QuandoStringNaoTerminarNaLinha() throws Exception {
+        // Arrange
+        var corpo = "{\"usuario\":\"Ana\",\"conteudo\":\"sem fim\n"
+                + "{\"usuario\":\"Ana\",\"conteudo\":\"mensagem 2\"}\n";
+        // Act
+        var resumo = importadorMensagens.importar(paraEntrada(corpo));
+        // Assert
+        assertThat(resumo.linhas()).isEqualTo(2);
+        assertThat(resumo.importadas()).isEqualTo(1);
+        assertThat(resumo.linhasRejeitadas()).containsExactly(1L);
+    }
+
+    @Test
+    void naoDeveGravar_QuandoCorpoVazio() throws Exception {
+        // Act
+        var resumo = importadorMensagens.importar(paraEntrada(""));
+        // Assert
+        assertThat(resumo.linhas()).isZero();
+        verifyNoInteractions(registradorLote);
+    }
+
+    private static ByteArrayInputStream paraEntrada(String corpo) {
+        return new ByteArrayInputStream(corpo.getBytes(StandardCharsets.UTF_8));
+    }
+}
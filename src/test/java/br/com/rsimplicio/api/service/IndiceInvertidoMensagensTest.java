@@ -0,0 +1,111 @@
+package br.com.rsimplicio.api.service;
+
+import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.model.MensagemEvento;
+import br.com.rsimplicio.api.model.TextoMensagem;
+import br.com.rsimplicio.api.repository.MensagemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IndiceInvertidoMensagensTest {
+
+    private MensagemRepository mensagemRepository;
+    private IndiceInvertidoMensagens indice;
+
+    @BeforeEach
+    void setup() {
+        mensagemRepository = mock(MensagemRepository.class);
+        indice = new IndiceInvertidoMensagens(mensagemRepository);
+    }
+
+    @Test
+    void deveNormalizarTermos_SemAcentosEMinusculos() {
+        assertThat(IndiceInvertidoMensagens.tokenizar("Olá, Conteúdo-da MENSAGEM 02 e"))
+                .containsExactly("ola", "conteudo", "da", "mensagem", "02");
+    }
+
+    @Test
+    void deveBuscarMensagens_ComTodosOsTermos_OrdenadasPorRelevancia() {
+        var poucoRelevante = UUID.randomUUID();
+        var maisRelevante = UUID.randomUUID();
+        indice.indexar(poucoRelevante, "Miguel", "teste de carga", true);
+        indice.indexar(maisRelevante, "Jessica", "teste de carga, carga e mais carga", true);
+        indice.indexar(UUID.randomUUID(), "Rafael", "apenas um teste", true);
+
+        var resultados = indice.buscar("Carga TESTE", null, 10);
+
+        assertThat(resultados)
+                .extracting(BuscaMensagens.Resultado::id)
+                .containsExactly(maisRelevante, poucoRelevante);
+    }
+
+    @Test
+    void devePaginarBusca_APartirDoCursor() {
+        for (int i = 0; i < 25; i++) {
+            indice.indexar(UUID.randomUUID(), "usuario-" + i, "mensagem " + "repetida ".repeat(i % 5 + 1), true);
+        }
+        var vistos = new ArrayList<UUID>();
+
+        var pagina = indice.buscar("repetida", null, 10);
+        while (!pagina.isEmpty()) {
+            pagina.forEach(resultado -> vistos.add(resultado.id()));
+            pagina = indice.buscar("repetida", pagina.get(pagina.size() - 1).cursor(), 10);
+        }
+
+        assertThat(vistos).hasSize(25).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void deveBuscarMensagens_QuandoLimiteForMaiorQueOsResultados() {
+        indice.indexar(UUID.randomUUID(), "Miguel", "teste de carga", true);
+
+        var resultados = indice.buscar("carga", null, Integer.MAX_VALUE);
+
+        assertThat(resultados).hasSize(1);
+    }
+
+    @Test
+    void deveAtualizarIndice_QuandoMensagemForAlteradaOuExcluida() {
+        var mensagem = new Mensagem();
+        mensagem.setId(UUID.randomUUID());
+        mensagem.setUsuario("Miguel");
+        mensagem.setConteudo("conteudo antigo");
+        indice.aoAlterarMensagem(MensagemEvento.registrada(mensagem));
+
+        mensagem.setConteudo("conteudo novo");
+        indice.aoAlterarMensagem(MensagemEvento.alterada(mensagem));
+
+        assertThat(indice.buscar("antigo", null, 10)).isEmpty();
+        assertThat(indice.buscar("novo", null, 10)).hasSize(1);
+
+        indice.aoAlterarMensagem(MensagemEvento.excluida(mensagem.getId()));
+
+        assertThat(indice.buscar("conteudo", null, 10)).isEmpty();
+    }
+
+    @Test
+    void deveReconstruirIndice_SemSobrescreverMensagensJaIndexadas() {
+        var textos = new ArrayList<TextoMensagem>();
+        for (int i = 0; i < 5_000; i++) {
+            textos.add(new TextoMensagem(UUID.randomUUID(), "usuario-" + i, "conteudo da mensagem " + i));
+        }
+        var alterada = textos.get(0).id();
+        indice.indexar(alterada, "usuario-0", "conteudo alterado", true);
+        when(mensagemRepository.listarTextos()).thenReturn(textos);
+
+        indice.reconstruir();
+
+        assertThat(indice.buscar("conteudo", null, 10_000)).hasSize(5_000);
+        assertThat(indice.buscar("mensagem 4999", null, 10)).hasSize(1);
+        assertThat(indice.buscar("alterado", null, 10))
+                .extracting(BuscaMensagens.Resultado::id)
+                .containsExactly(alterada);
+    }
+}
@@ -1,19 +1,27 @@
 package br.com.rsimplicio.api.service;
 
+import br.com.rsimplicio.api.config.CacheConfig;
 import br.com.rsimplicio.api.exception.MensagemNotFoundException;
+import br.com.rsimplicio.api.exception.VersaoDivergenteException;
 import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.model.MensagemResumo;
 import br.com.rsimplicio.api.repository.MensagemRepository;
 import br.com.rsimplicio.api.utils.MensagemHelper;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,6 +37,21 @@ class MensagemServiceIT {
     private MensagemRepository mensagemRepository;
     @Autowired
     private MensagemService mensagemService;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private AcumuladorGostei acumuladorGostei;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Cada teste é desfeito no rollback, mas o cache de segundo nível não: uma mensagem
+     * lida depois de um UPDATE por JDBC (os "gostei") ficaria nele com a versão desfeita.
+     */
+    @BeforeEach
+    void setup() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
 
     @Nested
     class RegistrarMensagem{
@@ -41,11 +64,29 @@ class MensagemServiceIT {
                     .isNotNull()
                     .isInstanceOf(Mensagem.class);
             assertThat(resultadoObtido.getId()).isNotNull();
+            assertThat(resultadoObtido.getId().version()).isEqualTo(7);
             assertThat(resultadoObtido.getDataCriacao()).isNotNull();
             assertThat(resultadoObtido.getGostei()).isZero();
         }
     }
 
+    @Nested
+    class RegistrarMensagens {
+        @Test
+        void devePermitirRegistrarMensagensEmLote() {
+            var mensagens = List.of(
+                    MensagemHelper.gerarMensagem(),
+                    MensagemHelper.gerarMensagem(),
+                    new Mensagem());
+
+            var resultadoObtido = mensagemService.registrarMensagens(mensagens);
+
+            assertThat(resultadoObtido.registradas()).isEqualTo(2);
+            assertThat(resultadoObtido.rejeitadas()).isEqualTo(1);
+            assertThat(mensagemRepository.findById(resultadoObtido.itens().get(0).id())).isPresent();
+        }
+    }
+
     @Nested
     class BuscaMensagem{
         @Test
@@ -79,6 +120,45 @@ class MensagemServiceIT {
         }
     }
 
+    @Nested
+    class CacheMensagem {
+        @Test
+        void deveArmazenarMensagemEmCache_QuandoBuscarMensagem() {
+            var id = UUID.fromString("822ec71b-3dda-4eb4-b989-15f707dbe4af");
+            var cache = cacheManager.getCache(CacheConfig.CACHE_MENSAGENS);
+            cache.evict(id);
+
+            var resultadoObtido = mensagemService.buscarMensagem(id);
+
+            assertThat(cache.get(id, Mensagem.class)).isSameAs(resultadoObtido);
+            assertThat(mensagemService.buscarMensagem(id)).isSameAs(resultadoObtido);
+        }
+
+        @Test
+        void deveInvalidarCache_QuandoAlterarMensagem() {
+            var id = UUID.fromString("822ec71b-3dda-4eb4-b989-15f707dbe4af");
+            var cache = cacheManager.getCache(CacheConfig.CACHE_MENSAGENS);
+            mensagemService.buscarMensagem(id);
+            var mensagemAtualizada = MensagemHelper.gerarMensagem();
+            mensagemAtualizada.setId(id);
+
+            mensagemService.alterarMensagem(id, mensagemAtualizada);
+
+            assertThat(cache.get(id)).isNull();
+        }
+
+        @Test
+        void deveInvalidarCache_QuandoExcluirMensagem() {
+            var id = UUID.fromString("822ec71b-3dda-4eb4-b989-15f707dbe4af");
+            var cache = cacheManager.getCache(CacheConfig.CACHE_MENSAGENS);
+            mensagemService.buscarMensagem(id);
+
+            mensagemService.excluirMensagem(id);
+
+            assertThat(cache.get(id)).isNull();
+        }
+    }
+
     @Nested
     class AlterarMensagem{
         @Test
@@ -95,6 +175,31 @@ class MensagemServiceIT {
             assertThat(resultadoObtido.getUsuario()).isNotEqualTo(mensagemAtualizada.getUsuario());
         }
 
+        @Test
+        void deveIncrementarVersao_QuandoAlterarMensagem() {
+            var id = UUID.fromString("4a3679eb-5f35-497f-b113-fae19fb004ce");
+            var versaoAnterior = mensagemRepository.findById(id).orElseThrow().getVersao();
+            var mensagemAtualizada = MensagemHelper.gerarMensagem();
+            mensagemAtualizada.setId(id);
+
+            var resultadoObtido = mensagemService.alterarMensagem(id, mensagemAtualizada, versaoAnterior);
+
+            assertThat(resultadoObtido.getVersao()).isEqualTo(versaoAnterior + 1);
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoAlterarMensagem_VersaoDivergente() {
+            var id = UUID.fromString("4a3679eb-5f35-497f-b113-fae19fb004ce");
+            var versaoAnterior = mensagemRepository.findById(id).orElseThrow().getVersao();
+            var mensagemAtualizada = MensagemHelper.gerarMensagem();
+            mensagemAtualizada.setId(id);
+            mensagemService.alterarMensagem(id, mensagemAtualizada);
+
+            assertThatThrownBy(() -> mensagemService.alterarMensagem(id, mensagemAtualizada, versaoAnterior))
+                    .isInstanceOf(VersaoDivergenteException.class)
+                    .hasMessage("Mensagem foi alterada por outra requisição");
+        }
+
         @Test
         void deveGerarExcecao_QuandoAlterarMensagem_IdNaoNaoExiste() {
             var id = UUID.fromString("a5cc532b-7521-4d50-9e51-ed61f37fd30d");
@@ -139,11 +244,26 @@ class MensagemServiceIT {
         }
     }
 
+    @Nested
+    class RegistrarGostei {
+        @Test
+        void devePermitirRegistrarGostei() {
+            var id = UUID.fromString("822ec71b-3dda-4eb4-b989-15f707dbe4af");
+
+            mensagemService.registrarGostei(id);
+            mensagemService.registrarGostei(id);
+            mensagemService.registrarGostei(id);
+            acumuladorGostei.descarregar();
+
+            assertThat(mensagemService.buscarMensagem(id).getGostei()).isEqualTo(3);
+        }
+    }
+
     @Nested
     class ListarMensagens {
         @Test
         void devePermitirListarMensagens() {
-            Page<Mensagem> listaDeMensagensObtida = mensagemService.listarMensagens(Pageable.unpaged());
+            Page<MensagemResumo> listaDeMensagensObtida = mensagemService.listarMensagens(Pageable.unpaged());
 
             assertThat(listaDeMensagensObtida).hasSize(4);
             assertThat(listaDeMensagensObtida.getContent())
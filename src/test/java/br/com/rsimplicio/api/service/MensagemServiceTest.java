@@ -1,7 +1,15 @@
 package br.com.rsimplicio.api.service;
 
+import br.com.rsimplicio.api.exception.CursorInvalidoException;
 import br.com.rsimplicio.api.exception.MensagemNotFoundException;
+import br.com.rsimplicio.api.exception.VersaoDivergenteException;
+import br.com.rsimplicio.api.id.GeradorUuidV7;
+import br.com.rsimplicio.api.model.CursorBusca;
+import br.com.rsimplicio.api.model.CursorMensagem;
+import br.com.rsimplicio.api.model.ItemLote;
 import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.model.MensagemEvento;
+import br.com.rsimplicio.api.model.MensagemResumo;
 import br.com.rsimplicio.api.repository.MensagemRepository;
 import br.com.rsimplicio.api.utils.MensagemHelper;
 import org.junit.jupiter.api.AfterEach;
@@ -9,17 +17,24 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 class MensagemServiceTest {
@@ -29,12 +44,30 @@ class MensagemServiceTest {
     @Mock
     private MensagemRepository mensagemRepository;
 
+    @Mock
+    private AcumuladorGostei acumuladorGostei;
+
+    @Mock
+    private RegistradorLote registradorLote;
+
+    @Mock
+    private BuscaMensagens buscaMensagens;
+
+    @Mock
+    private ApplicationEventPublisher eventos;
+
+    @Mock
+    private CacheSegundoNivel cacheSegundoNivel;
+
     AutoCloseable mock;
 
     @BeforeEach
     void setup() throws Exception {
         mock = MockitoAnnotations.openMocks(this);
-        mensagemService = new MensagemServiceImpl(mensagemRepository);
+        var contadorMensagens = new ContadorMensagens(mensagemRepository, Duration.ofMinutes(1));
+        mensagemService = new MensagemServiceImpl(
+                mensagemRepository, new GeradorUuidV7(), contadorMensagens, acumuladorGostei, registradorLote,
+                buscaMensagens, eventos, Optional.empty(), cacheSegundoNivel);
     }
 
     @AfterEach
@@ -57,9 +90,26 @@ class MensagemServiceTest {
         assertThat(mensagemRegistrada.getConteudo()).isEqualTo(mensagem.getConteudo());
         assertThat(mensagemRegistrada.getUsuario()).isEqualTo(mensagem.getUsuario());
         assertThat(mensagem.getId()).isNotNull();
+        assertThat(mensagem.getId().version()).isEqualTo(7);
         verify(mensagemRepository, times(1)).save(any(Mensagem.class));
     }
 
+    @Test
+    void devePermitirRegistrarMensagens() {
+        // Arrange
+        var mensagens = Arrays.asList(MensagemHelper.gerarMensagem(), new Mensagem());
+        when(registradorLote.registrar(mensagens)).thenReturn(Arrays.asList(
+                ItemLote.registrada(0, UUID.randomUUID()),
+                ItemLote.rejeitada(1, "conteúdo não pode estar vazio")));
+        // Act
+        var resultadoObtido = mensagemService.registrarMensagens(mensagens);
+        // Assert
+        assertThat(resultadoObtido.registradas()).isEqualTo(1);
+        assertThat(resultadoObtido.rejeitadas()).isEqualTo(1);
+        assertThat(resultadoObtido.itens()).hasSize(2);
+        verify(registradorLote, times(1)).registrar(mensagens);
+    }
+
     @Test
     void devePermitirBuscarMensagem() {
         // Arrange
@@ -100,11 +150,10 @@ class MensagemServiceTest {
         mensagemNova.setUsuario(mensagemAntiga.getUsuario());
         mensagemNova.setConteudo("ABCD 12345");
 
-        when(mensagemRepository.findById(id))
-            .thenReturn(Optional.of(mensagemAntiga));
-
-        when(mensagemRepository.save(any(Mensagem.class)))
-            .thenAnswer(i -> i.getArgument(0));
+        when(mensagemRepository.alterarConteudo(eq(id), eq("ABCD 12345"), any(LocalDateTime.class)))
+            .thenReturn(1);
+        when(mensagemRepository.buscarNoPrimario(id))
+            .thenReturn(Optional.of(mensagemAntiga.toBuilder().conteudo("ABCD 12345").build()));
         // Act
         var mensagemObtida = mensagemService.alterarMensagem(id, mensagemNova);
         // Assert
@@ -112,8 +161,10 @@ class MensagemServiceTest {
         assertThat(mensagemObtida.getId()).isEqualTo(mensagemNova.getId());
         assertThat(mensagemObtida.getUsuario()).isEqualTo(mensagemNova.getUsuario());
         assertThat(mensagemObtida.getConteudo()).isEqualTo(mensagemNova.getConteudo());
-        verify(mensagemRepository, times(1)).findById(any(UUID.class));
-        verify(mensagemRepository, times(1)).save(any(Mensagem.class));
+        verify(mensagemRepository, never()).findById(any(UUID.class));
+        verify(mensagemRepository, times(1)).alterarConteudo(eq(id), eq("ABCD 12345"), any(LocalDateTime.class));
+        verify(mensagemRepository, never()).save(any(Mensagem.class));
+        verify(cacheSegundoNivel, times(1)).invalidarMensagem(id);
     }
 
     @Test
@@ -122,70 +173,133 @@ class MensagemServiceTest {
         var id = UUID.fromString("a4d8f3d1-7496-43dc-aeac-ab8122ecd845");
         var mensagem = MensagemHelper.gerarMensagem();
         mensagem.setId(id);
-        when(mensagemRepository.findById(id)).thenReturn(Optional.empty());
+        when(mensagemRepository.alterarConteudo(eq(id), anyString(), any(LocalDateTime.class))).thenReturn(0);
         // Act & Assert
         assertThatThrownBy(() -> mensagemService.alterarMensagem(id, mensagem))
                 .isInstanceOf(MensagemNotFoundException.class)
                 .hasMessage("Mensagem não encontrada");
-        verify(mensagemRepository, times(1)).findById(any(UUID.class));
-        verify(mensagemRepository, never()).save(any(Mensagem.class));
+        verify(mensagemRepository, times(1)).alterarConteudo(eq(id), anyString(), any(LocalDateTime.class));
+        verify(mensagemRepository, never()).findById(any(UUID.class));
+        verify(mensagemRepository, never()).existsById(any(UUID.class));
     }
 
     @Test
     void deveGerarExcecao_QuandoAlterarMensagem_IdDaMensagemNovaApresentaValorDiferente() {
         // Arrange
         var id = UUID.fromString("a314bbb7-eb90-4e2e-8708-7bf4c05f4825");
-        var mensagemAntiga = MensagemHelper.gerarMensagem();
-        mensagemAntiga.setId(id);
-
         var mensagemNova = MensagemHelper.gerarMensagem();
         mensagemNova.setId(UUID.fromString("ca8b07cc-b69c-4fa7-b899-3e37ff0c8da1"));
         mensagemNova.setConteudo("ABCD 12345");
-
-        when(mensagemRepository.findById(id)).thenReturn(Optional.of(mensagemAntiga));
         // Act & Assert
         assertThatThrownBy(() -> mensagemService.alterarMensagem(id, mensagemNova))
                 .isInstanceOf(MensagemNotFoundException.class)
                 .hasMessage("Mensagem atualizada não apresenta o mesmo id");
-        verify(mensagemRepository, times(1)).findById(any(UUID.class));
-        verify(mensagemRepository, never()).save(any(Mensagem.class));
+        verify(mensagemRepository, never()).alterarConteudo(any(UUID.class), anyString(), any(LocalDateTime.class));
+        verify(mensagemRepository, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    void devePermitirAlterarMensagem_QuandoVersaoEsperadaConfere() {
+        // Arrange
+        var id = UUID.fromString("b7964f82-2e95-4725-8dbb-b73ea9ddd960");
+        var mensagemNova = MensagemHelper.gerarMensagem();
+        mensagemNova.setId(id);
+        when(mensagemRepository.alterarConteudoNaVersao(eq(id), anyString(), any(LocalDateTime.class), eq(2L)))
+                .thenReturn(1);
+        when(mensagemRepository.buscarNoPrimario(id))
+                .thenReturn(Optional.of(mensagemNova.toBuilder().versao(3).build()));
+        // Act
+        var mensagemObtida = mensagemService.alterarMensagem(id, mensagemNova, 2L);
+        // Assert
+        assertThat(mensagemObtida.getVersao()).isEqualTo(3);
+        verify(mensagemRepository, never()).alterarConteudo(any(UUID.class), anyString(), any(LocalDateTime.class));
+        verify(mensagemRepository, never()).existsById(any(UUID.class));
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoAlterarMensagem_VersaoDivergente() {
+        // Arrange
+        var id = UUID.fromString("b7964f82-2e95-4725-8dbb-b73ea9ddd960");
+        var mensagemNova = MensagemHelper.gerarMensagem();
+        mensagemNova.setId(id);
+        when(mensagemRepository.alterarConteudoNaVersao(eq(id), anyString(), any(LocalDateTime.class), eq(2L)))
+                .thenReturn(0);
+        when(mensagemRepository.existsById(id)).thenReturn(true);
+        // Act & Assert
+        assertThatThrownBy(() -> mensagemService.alterarMensagem(id, mensagemNova, 2L))
+                .isInstanceOf(VersaoDivergenteException.class)
+                .hasMessage("Mensagem foi alterada por outra requisição");
+        verify(mensagemRepository, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoExcluirMensagem_VersaoDivergente() {
+        // Arrange
+        var id = UUID.fromString("ae1baf3f-ac8b-43a0-a62d-570b02561514");
+        when(mensagemRepository.excluirMensagemNaVersao(id, 7L)).thenReturn(0);
+        when(mensagemRepository.existsById(id)).thenReturn(true);
+        // Act & Assert
+        assertThatThrownBy(() -> mensagemService.excluirMensagem(id, 7L))
+                .isInstanceOf(VersaoDivergenteException.class);
+        verify(mensagemRepository, never()).excluirMensagem(any(UUID.class));
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoExcluirMensagem_ComVersaoEIdNaoExiste() {
+        // Arrange
+        var id = UUID.fromString("ae1baf3f-ac8b-43a0-a62d-570b02561514");
+        when(mensagemRepository.excluirMensagemNaVersao(id, 7L)).thenReturn(0);
+        when(mensagemRepository.existsById(id)).thenReturn(false);
+        // Act & Assert
+        assertThatThrownBy(() -> mensagemService.excluirMensagem(id, 7L))
+                .isInstanceOf(MensagemNotFoundException.class)
+                .hasMessage("Mensagem não encontrada");
     }
 
     @Test
     void devePermitirExcluirMensagem() {
         // Arrange
         var id = UUID.fromString("ae1baf3f-ac8b-43a0-a62d-570b02561514");
-        var mensagem = MensagemHelper.gerarMensagem();
-        mensagem.setId(id);
-        when(mensagemRepository.findById(id)).thenReturn(Optional.of(mensagem));
-        doNothing().when(mensagemRepository).deleteById(id);
+        when(mensagemRepository.excluirMensagem(id)).thenReturn(1);
         // Act
         var mensagemFoiRemovida = mensagemService.excluirMensagem(id);
         // Assert
         assertThat(mensagemFoiRemovida).isTrue();
-        verify(mensagemRepository, times(1)).findById(any(UUID.class));
-        verify(mensagemRepository, times(1)).deleteById(any(UUID.class));
+        verify(mensagemRepository, times(1)).excluirMensagem(id);
+        verify(mensagemRepository, never()).findById(any(UUID.class));
+        verify(mensagemRepository, never()).deleteById(any(UUID.class));
+        verify(cacheSegundoNivel, times(1)).invalidarMensagem(id);
     }
 
     @Test
     void deveGerarExcecao_QuandoExcluirMensagem_IdNaoExiste() {
         // Arrange
         var id = UUID.fromString("88e68963-6c87-4e39-a387-9db57b718fc7");
-        when(mensagemRepository.findById(id)).thenReturn(Optional.empty());
+        when(mensagemRepository.excluirMensagem(id)).thenReturn(0);
         // Act & Assert
         assertThatThrownBy(() -> mensagemService.excluirMensagem(id))
                 .isInstanceOf(MensagemNotFoundException.class)
                 .hasMessage("Mensagem não encontrada");
-        verify(mensagemRepository, times(1)).findById(any(UUID.class));
-        verify(mensagemRepository, never()).deleteById(any(UUID.class));
+        verify(mensagemRepository, times(1)).excluirMensagem(id);
+    }
+
+    @Test
+    void devePermitirRegistrarGostei() {
+        // Arrange
+        var id = UUID.fromString("e3f1c0a2-6b4d-4f8e-9c7a-1d2b3c4e5f60");
+        // Act
+        mensagemService.registrarGostei(id);
+        // Assert
+        verify(acumuladorGostei, times(1)).registrar(id);
+        verifyNoInteractions(mensagemRepository);
     }
 
     @Test
     void devePermitirListarMensagens() {
         // Arrange
-        Page<Mensagem> listaDeMensagem = new PageImpl<>(Arrays.asList(
-                MensagemHelper.gerarMensagem(),
-                MensagemHelper.gerarMensagem()
+        Page<MensagemResumo> listaDeMensagem = new PageImpl<>(Arrays.asList(
+                MensagemResumo.de(MensagemHelper.gerarMensagem()),
+                MensagemResumo.de(MensagemHelper.gerarMensagem())
         ));
         when(mensagemRepository.listarMensagens(any(Pageable.class))).thenReturn(listaDeMensagem);
         // Act
@@ -197,9 +311,190 @@ class MensagemServiceTest {
                 .allSatisfy(mensagem -> {
                     assertThat(mensagem)
                             .isNotNull()
-                            .isInstanceOf(Mensagem.class);
+                            .isInstanceOf(MensagemResumo.class);
                 });
         verify(mensagemRepository, times(1)).listarMensagens(any(Pageable.class));
     }
 
+    @Test
+    void devePermitirListarMensagens_PrimeirasPaginasPeloCacheDeConsultas() {
+        // Arrange
+        var primeiraPagina = PageRequest.of(0, 10);
+        var paginaForaDoCache = PageRequest.of(MensagemServiceImpl.PAGINAS_EM_CACHE, 10);
+        when(mensagemRepository.listarMensagensEmCache(primeiraPagina)).thenReturn(Page.empty(primeiraPagina));
+        when(mensagemRepository.listarMensagens(paginaForaDoCache)).thenReturn(Page.empty(paginaForaDoCache));
+        // Act
+        mensagemService.listarMensagens(primeiraPagina);
+        mensagemService.listarMensagens(paginaForaDoCache);
+        // Assert
+        verify(mensagemRepository, times(1)).listarMensagensEmCache(primeiraPagina);
+        verify(mensagemRepository, never()).listarMensagensEmCache(paginaForaDoCache);
+        verify(mensagemRepository, times(1)).listarMensagens(paginaForaDoCache);
+    }
+
+    @Test
+    void devePermitirListarMensagensPorCursor_PrimeiraPagina() {
+        // Arrange
+        var mensagens = Arrays.asList(
+                gerarMensagemComData(LocalDateTime.of(2024, 1, 15, 0, 0, 3)),
+                gerarMensagemComData(LocalDateTime.of(2024, 1, 15, 0, 0, 2)),
+                gerarMensagemComData(LocalDateTime.of(2024, 1, 15, 0, 0, 1)));
+        when(mensagemRepository.listarMensagensIniciais(3)).thenReturn(mensagens);
+        // Act
+        var resultadoObtido = mensagemService.listarMensagens(null, 2);
+        // Assert
+        assertThat(resultadoObtido.content()).containsExactly(mensagens.get(0), mensagens.get(1));
+        assertThat(CursorMensagem.decodificar(resultadoObtido.nextCursor()))
+                .isEqualTo(CursorMensagem.de(mensagens.get(1)));
+        verify(mensagemRepository, times(1)).listarMensagensIniciais(3);
+        verify(mensagemRepository, never()).listarMensagensApos(any(), any(), anyInt());
+    }
+
+    @Test
+    void devePermitirListarMensagensPorCursor_UltimaPagina() {
+        // Arrange
+        var posicao = new CursorMensagem(
+                LocalDateTime.of(2024, 1, 15, 0, 0, 2),
+                UUID.fromString("5f0e2a4c-8d1b-4c5e-9a3f-2b7d6e1c0a94"));
+        var mensagem = gerarMensagemComData(LocalDateTime.of(2024, 1, 15, 0, 0, 1));
+        when(mensagemRepository.listarMensagensApos(posicao.dataCriacao(), posicao.id(), 3))
+                .thenReturn(Arrays.asList(mensagem));
+        // Act
+        var resultadoObtido = mensagemService.listarMensagens(posicao.codificar(), 2);
+        // Assert
+        assertThat(resultadoObtido.content()).containsExactly(mensagem);
+        assertThat(resultadoObtido.nextCursor()).isNull();
+        verify(mensagemRepository, times(1)).listarMensagensApos(posicao.dataCriacao(), posicao.id(), 3);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoListarMensagensPorCursor_CursorInvalido() {
+        // Act & Assert
+        assertThatThrownBy(() -> mensagemService.listarMensagens("cursor-invalido", 10))
+                .isInstanceOf(CursorInvalidoException.class)
+                .hasMessage("Cursor inválido");
+        verify(mensagemRepository, never()).listarMensagensApos(any(), any(), anyInt());
+    }
+
+    @Test
+    void devePermitirListarMensagensDoUsuario_APartirDoCursor() {
+        // Arrange
+        var anterior = gerarMensagemComData(LocalDateTime.of(2024, 1, 15, 12, 0));
+        var mensagem = gerarMensagemComData(LocalDateTime.of(2024, 1, 15, 11, 0));
+        var seguinte = gerarMensagemComData(LocalDateTime.of(2024, 1, 15, 10, 0));
+        var posicao = CursorMensagem.de(anterior);
+        when(mensagemRepository.listarMensagensDoUsuarioApos("Miguel", posicao.dataCriacao(), posicao.id(), 2))
+                .thenReturn(Arrays.asList(mensagem, seguinte));
+        // Act
+        var resultadoObtido = mensagemService.listarMensagensDoUsuario("Miguel", posicao.codificar(), 1);
+        // Assert
+        assertThat(resultadoObtido.content()).containsExactly(mensagem);
+        assertThat(CursorMensagem.decodificar(resultadoObtido.nextCursor())).isEqualTo(CursorMensagem.de(mensagem));
+        verify(mensagemRepository, never()).listarMensagensApos(any(), any(), anyInt());
+    }
+
+    @Test
+    void devePermitirListarMensagensSemContagem() {
+        // Arrange
+        var pageable = PageRequest.of(0, 2);
+        var mensagens = new SliceImpl<>(Arrays.asList(
+                MensagemResumo.de(MensagemHelper.gerarMensagem()),
+                MensagemResumo.de(MensagemHelper.gerarMensagem())
+        ), pageable, true);
+        when(mensagemRepository.listarMensagensSemContagem(pageable)).thenReturn(mensagens);
+        // Act
+        var resultadoObtido = mensagemService.listarMensagensSemContagem(pageable, false);
+        // Assert
+        assertThat(resultadoObtido.content()).hasSize(2);
+        assertThat(resultadoObtido.first()).isTrue();
+        assertThat(resultadoObtido.last()).isFalse();
+        assertThat(resultadoObtido.approximateTotal()).isNull();
+        verify(mensagemRepository, never()).count();
+    }
+
+    @Test
+    void devePermitirListarMensagensSemContagem_ComTotalAproximado() {
+        // Arrange
+        var pageable = PageRequest.of(0, 2);
+        when(mensagemRepository.listarMensagensSemContagem(pageable))
+                .thenReturn(new SliceImpl<>(Arrays.asList(MensagemResumo.de(MensagemHelper.gerarMensagem())), pageable, false));
+        when(mensagemRepository.count()).thenReturn(42L);
+        when(mensagemRepository.save(any(Mensagem.class))).thenAnswer(i -> i.getArgument(0));
+        // Act
+        var primeiroResultado = mensagemService.listarMensagensSemContagem(pageable, true);
+        mensagemService.registrarMensagem(MensagemHelper.gerarMensagem());
+        var segundoResultado = mensagemService.listarMensagensSemContagem(pageable, true);
+        // Assert
+        assertThat(primeiroResultado.approximateTotal()).isEqualTo(42L);
+        assertThat(segundoResultado.approximateTotal()).isEqualTo(43L);
+        verify(mensagemRepository, times(1)).count();
+    }
+
+    @Test
+    void devePermitirRegistrarMensagem_Assincronamente() {
+        // Arrange
+        var registroAssincrono = mock(RegistroAssincrono.class);
+        var servicoAssincrono = new MensagemServiceImpl(
+                mensagemRepository, new GeradorUuidV7(), new ContadorMensagens(mensagemRepository, Duration.ofMinutes(1)),
+                acumuladorGostei, registradorLote, buscaMensagens, eventos, Optional.of(registroAssincrono),
+                cacheSegundoNivel);
+        var mensagem = MensagemHelper.gerarMensagem();
+        when(registroAssincrono.buscarPendente(any(UUID.class))).thenReturn(Optional.of(mensagem));
+        // Act
+        var mensagemAceita = servicoAssincrono.registrarMensagem(mensagem);
+        var mensagemBuscada = servicoAssincrono.buscarMensagem(mensagemAceita.getId());
+        // Assert
+        assertThat(servicoAssincrono.registroAssincrono()).isTrue();
+        assertThat(mensagemAceita.getId()).isNotNull();
+        assertThat(mensagemBuscada).isSameAs(mensagem);
+        verify(registroAssincrono, times(1)).aceitar(mensagem);
+        verify(mensagemRepository, never()).save(any(Mensagem.class));
+        verify(mensagemRepository, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    void devePublicarEvento_QuandoRegistrarMensagem() {
+        // Arrange
+        when(mensagemRepository.save(any(Mensagem.class))).thenAnswer(i -> i.getArgument(0));
+        // Act
+        var mensagemRegistrada = mensagemService.registrarMensagem(MensagemHelper.gerarMensagem());
+        // Assert
+        verify(eventos, times(1)).publishEvent(MensagemEvento.registrada(mensagemRegistrada));
+    }
+
+    @Test
+    void devePermitirBuscarMensagens_NaOrdemDeRelevancia() {
+        // Arrange
+        var maisRelevante = gerarMensagemComData(LocalDateTime.of(2024, 1, 15, 0, 0));
+        var menosRelevante = gerarMensagemComData(LocalDateTime.of(2024, 1, 16, 0, 0));
+        var resultados = List.of(
+                new BuscaMensagens.Resultado(maisRelevante.getId(), 2.0),
+                new BuscaMensagens.Resultado(menosRelevante.getId(), 1.0),
+                new BuscaMensagens.Resultado(UUID.randomUUID(), 0.5));
+        when(buscaMensagens.buscar("conteudo", null, 3)).thenReturn(resultados);
+        when(mensagemRepository.findAllById(List.of(maisRelevante.getId(), menosRelevante.getId())))
+                .thenReturn(List.of(menosRelevante, maisRelevante));
+        // Act
+        var resultadoObtido = mensagemService.buscarMensagens("conteudo", null, 2);
+        // Assert
+        assertThat(resultadoObtido.content()).containsExactly(maisRelevante, menosRelevante);
+        assertThat(CursorBusca.decodificar(resultadoObtido.nextCursor()))
+                .isEqualTo(new CursorBusca(1.0, menosRelevante.getId()));
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoBuscarMensagens_ConsultaVazia() {
+        // Act & Assert
+        assertThatThrownBy(() -> mensagemService.buscarMensagens(" ", null, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Consulta não pode ser vazia");
+        verifyNoInteractions(buscaMensagens);
+    }
+
+    private static Mensagem gerarMensagemComData(LocalDateTime dataCriacao) {
+        var mensagem = MensagemHelper.gerarMensagem();
+        mensagem.setId(UUID.randomUUID());
+        mensagem.setDataCriacao(dataCriacao);
+        return mensagem;
+    }
 }
@@ -0,0 +1,132 @@
+package br.com.rsimplicio.api.service;
+
+import br.com.rsimplicio.api.exception.LoteInvalidoException;
+import br.com.rsimplicio.api.id.GeradorUuidV7;
+import br.com.rsimplicio.api.model.ItemLote;
+import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.repository.MensagemRepository;
+import br.com.rsimplicio.api.utils.MensagemHelper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class RegistradorLoteTest {
+
+    private RegistradorLote registradorLote;
+
+    @Mock
+    private MensagemRepository mensagemRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    AutoCloseable mock;
+
+    @BeforeEach
+    void setup() {
+        mock = MockitoAnnotations.openMocks(this);
+        var validator = Validation.buildDefaultValidatorFactory().getValidator();
+        var contadorMensagens = new ContadorMensagens(mensagemRepository, Duration.ofMinutes(1));
+        registradorLote = new RegistradorLote(
+                mensagemRepository,
+                new GeradorUuidV7(),
+                new TransactionTemplate(transactionManager),
+                validator,
+                contadorMensagens,
+                evento -> { },
+                2,
+                5);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Test
+    void devePermitirRegistrarMensagensEmBlocos() {
+        // Arrange
+        var mensagens = Arrays.asList(
+                MensagemHelper.gerarMensagem(),
+                MensagemHelper.gerarMensagem(),
+                MensagemHelper.gerarMensagem());
+        // Act
+        var itens = registradorLote.registrar(mensagens);
+        // Assert
+        assertThat(itens)
+                .extracting(ItemLote::status)
+                .containsOnly(ItemLote.Status.REGISTRADA);
+        assertThat(itens)
+                .extracting(ItemLote::id)
+                .doesNotContainNull()
+                .doesNotHaveDuplicates();
+        verify(mensagemRepository, times(2)).saveAll(anyList());
+        verify(mensagemRepository, times(2)).flush();
+    }
+
+    @Test
+    void deveRejeitarMensagensInvalidas_SemInterromperLote() {
+        // Arrange
+        var mensagemInvalida = Mensagem.builder().usuario("José").build();
+        var mensagens = Arrays.asList(
+                MensagemHelper.gerarMensagem(),
+                mensagemInvalida,
+                MensagemHelper.gerarMensagem());
+        // Act
+        var itens = registradorLote.registrar(mensagens);
+        // Assert
+        assertThat(itens.get(0).status()).isEqualTo(ItemLote.Status.REGISTRADA);
+        assertThat(itens.get(1).status()).isEqualTo(ItemLote.Status.REJEITADA);
+        assertThat(itens.get(1).erro()).isEqualTo("conteúdo não pode estar vazio");
+        assertThat(itens.get(2).status()).isEqualTo(ItemLote.Status.REGISTRADA);
+        verify(mensagemRepository, times(1)).saveAll(List.of(mensagens.get(0), mensagens.get(2)));
+    }
+
+    @Test
+    void deveRejeitarBloco_QuandoGravacaoFalhar() {
+        // Arrange
+        var mensagens = Arrays.asList(
+                MensagemHelper.gerarMensagem(),
+                MensagemHelper.gerarMensagem(),
+                MensagemHelper.gerarMensagem());
+        when(mensagemRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("violação"))
+                .thenAnswer(i -> i.getArgument(0));
+        // Act
+        var itens = registradorLote.registrar(mensagens);
+        // Assert
+        assertThat(itens)
+                .extracting(ItemLote::status)
+                .containsExactly(
+                        ItemLote.Status.REJEITADA,
+                        ItemLote.Status.REJEITADA,
+                        ItemLote.Status.REGISTRADA);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoLoteExcederLimite() {
+        // Arrange
+        var mensagens = Collections.nCopies(6, MensagemHelper.gerarMensagem());
+        // Act & Assert
+        assertThatThrownBy(() -> registradorLote.registrar(mensagens))
+                .isInstanceOf(LoteInvalidoException.class)
+                .hasMessage("Lote excede o limite de 5 mensagens");
+        verifyNoInteractions(mensagemRepository);
+    }
+}
@@ -0,0 +1,176 @@
+package br.com.rsimplicio.api.service;
+
+import br.com.rsimplicio.api.exception.FilaRegistroCheiaException;
+import br.com.rsimplicio.api.exception.MensagemInvalidaException;
+import br.com.rsimplicio.api.model.Mensagem;
+import br.com.rsimplicio.api.repository.MensagemRepository;
+import br.com.rsimplicio.api.utils.MensagemHelper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class RegistroAssincronoTest {
+
+    private RegistroAssincrono registroAssincrono;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @Mock
+    private MensagemRepository mensagemRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    AutoCloseable mock;
+
+    @BeforeEach
+    void setup() {
+        mock = MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        registroAssincrono = new RegistroAssincrono(
+                mensagemRepository,
+                new TransactionTemplate(transactionManager),
+                new ContadorMensagens(mensagemRepository, Duration.ofMinutes(1)),
+                evento -> { },
+                new ConcurrentMapCacheManager(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                meterRegistry,
+                2,
+                1,
+                10,
+                Duration.ofMillis(1));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Test
+    void deveServirMensagemPendente_AntesDaGravacao() {
+        var mensagem = gerarMensagemComId();
+
+        registroAssincrono.aceitar(mensagem);
+
+        assertThat(registroAssincrono.buscarPendente(mensagem.getId())).containsSame(mensagem);
+        assertThat(mensagem.getDataCriacao()).isNotNull();
+        verifyNoInteractions(mensagemRepository);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoFilaEstiverCheia() {
+        registroAssincrono.aceitar(gerarMensagemComId());
+        registroAssincrono.aceitar(gerarMensagemComId());
+
+        assertThatThrownBy(() -> registroAssincrono.aceitar(gerarMensagemComId()))
+                .isInstanceOf(FilaRegistroCheiaException.class)
+                .hasMessage("Fila de registro cheia");
+    }
+
+    @Test
+    void deveGravarMensagensPendentes_AoEncerrar() throws Exception {
+        var aceitas = List.of(gerarMensagemComId(), gerarMensagemComId());
+        aceitas.forEach(registroAssincrono::aceitar);
+        var gravadas = new ArrayList<Mensagem>();
+        when(mensagemRepository.saveAll(anyList())).thenAnswer(i -> {
+            gravadas.addAll(i.getArgument(0));
+            return i.getArgument(0);
+        });
+
+        registroAssincrono.iniciar();
+        registroAssincrono.encerrar();
+
+        assertThat(gravadas).containsExactlyElementsOf(aceitas);
+        assertThat(registroAssincrono.buscarPendente(aceitas.get(0).getId())).isEmpty();
+    }
+
+    @Test
+    void deveDescartarBloco_QuandoGravacaoFalhar() {
+        var mensagem = gerarMensagemComId();
+        registroAssincrono.aceitar(mensagem);
+        when(mensagemRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("falha"));
+
+        registroAssincrono.gravar(new ArrayList<>(List.of(mensagem)));
+
+        assertThat(registroAssincrono.buscarPendente(mensagem.getId())).isEmpty();
+        assertThat(meterRegistry.counter(RegistroAssincrono.METRICA_DESCARTADAS).count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoMensagemForInvalida() {
+        var mensagem = gerarMensagemComId();
+        mensagem.setConteudo("");
+
+        assertThatThrownBy(() -> registroAssincrono.aceitar(mensagem))
+                .isInstanceOf(MensagemInvalidaException.class)
+                .hasMessage("conteúdo não pode estar vazio");
+        assertThat(registroAssincrono.buscarPendente(mensagem.getId())).isEmpty();
+    }
+
+    @Test
+    void deveGravarUmaAUma_QuandoBlocoFalhar() {
+        var valida = gerarMensagemComId();
+        var rejeitada = gerarMensagemComId();
+        var gravadas = new ArrayList<Mensagem>();
+        when(mensagemRepository.saveAll(anyList())).thenAnswer(i -> {
+            List<Mensagem> mensagens = i.getArgument(0);
+            if (mensagens.contains(rejeitada)) {
+                throw new ConstraintViolationException("falha", null);
+            }
+            gravadas.addAll(mensagens);
+            return mensagens;
+        });
+
+        registroAssincrono.gravar(new ArrayList<>(List.of(valida, rejeitada)));
+
+        assertThat(gravadas).containsExactly(valida);
+        assertThat(meterRegistry.counter(RegistroAssincrono.METRICA_DESCARTADAS).count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void deveContinuarGravando_QuandoBlocoAnteriorFalhar() throws Exception {
+        var rejeitada = gerarMensagemComId();
+        var valida = gerarMensagemComId();
+        var gravadas = new ArrayList<Mensagem>();
+        when(mensagemRepository.saveAll(anyList())).thenAnswer(i -> {
+            List<Mensagem> mensagens = i.getArgument(0);
+            if (mensagens.contains(rejeitada)) {
+                throw new IllegalStateException("falha");
+            }
+            gravadas.addAll(mensagens);
+            return mensagens;
+        });
+        registroAssincrono.aceitar(rejeitada);
+        registroAssincrono.aceitar(valida);
+
+        registroAssincrono.iniciar();
+        registroAssincrono.encerrar();
+
+        assertThat(gravadas).containsExactly(valida);
+    }
+
+    private static Mensagem gerarMensagemComId() {
+        var mensagem = MensagemHelper.gerarMensagem();
+        mensagem.setId(UUID.randomUUID());
+        return mensagem;
+    }
+}
@@ -0,0 +1,10 @@
+-- 10.000 mensagens de 1.000 usuários, uma por segundo a partir de 15/01/2024
+INSERT INTO mensagem
+    (ID, USUARIO, CONTEUDO, DATA_CRIACAO, GOSTEI)
+SELECT
+    RANDOM_UUID(),
+    'usuario-' || MOD(X, 1000),
+    'Conteudo da mensagem de carga ' || X,
+    DATEADD('SECOND', X, TIMESTAMP '2024-01-15 00:00:00'),
+    MOD(X, 50)
+FROM SYSTEM_RANGE(1, 10000);